@@ -0,0 +1,129 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.AnalisadorDeLinha;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Benchmark da separação das linhas do arquivo de dicionário. O contador "megabytes" informa a vazão em MB/s (caracteres
+ * da linha, contados como bytes).
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalisadorDeLinhaBenchmark {
+
+    /**
+     * Quantidade de linhas separadas.
+     */
+    private static final int QUANTIDADE_DE_LINHAS = 1_024;
+
+    /**
+     * Quantidade de traduções de cada linha.
+     */
+    @Param({ "2", "10", "50" })
+    public int               traducoes;
+
+    private String[]         linhas;
+
+    private int              contador;
+
+    /**
+     * Contador da quantidade de megabytes separados, normalizado pelo tempo.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Vazao {
+
+        public double megabytes;
+
+    }
+
+    /**
+     * Método responsável por preparar as linhas.
+     */
+    @Setup
+    public void preparar() {
+        linhas = new String[QUANTIDADE_DE_LINHAS];
+
+        for (int i = 0; i < linhas.length; i++) {
+            StringBuilder linha = new StringBuilder("<palavra_ingles>").append(CorpusSintetico.palavra(i));
+            int traducao = 1;
+
+            for (String definicao : CorpusSintetico.definicoes(i, traducoes)) {
+                linha.append("<traducao").append(traducao++).append(">").append(definicao);
+            }
+
+            linhas[i] = linha.toString();
+        }
+    }
+
+    /**
+     * Separa uma linha em uma única passagem.
+     * 
+     * @param vazao
+     *            Contador de megabytes separados.
+     * 
+     * @return O dicionário da linha.
+     */
+    @Benchmark
+    public Dicionario analisar(Vazao vazao) {
+        String linha = linhas[contador++ & (QUANTIDADE_DE_LINHAS - 1)];
+
+        vazao.megabytes += linha.length() / 1e6;
+
+        return AnalisadorDeLinha.analisar(linha);
+    }
+
+    /**
+     * Separa uma linha da forma anterior, procurando cada marcador em toda a linha, para comparação.
+     * 
+     * @param vazao
+     *            Contador de megabytes separados.
+     * 
+     * @return O dicionário da linha.
+     */
+    @Benchmark
+    public Dicionario analisarComMarcadores(Vazao vazao) {
+        String linha = linhas[contador++ & (QUANTIDADE_DE_LINHAS - 1)];
+        List<String> definicoes = new ArrayList<>();
+        String traducao;
+        int traducaoAtual = 1;
+
+        vazao.megabytes += linha.length() / 1e6;
+
+        while ((traducao = Tradutor.Utils.getPalavraEntre(linha, "<traducao" + traducaoAtual + ">", "<traducao" + (traducaoAtual + 1) + ">")) != null) {
+            definicoes.add(traducao);
+            traducaoAtual++;
+        }
+
+        return new Dicionario(Tradutor.Utils.getPalavraEntre(linha, "<palavra_ingles>", "<traducao1>"), definicoes);
+    }
+
+}
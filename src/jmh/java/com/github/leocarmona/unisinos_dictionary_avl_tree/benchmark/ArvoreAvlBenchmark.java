@@ -0,0 +1,161 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+
+/**
+ * Benchmark das operações da {@link ArvoreAvl} sobre uma árvore já carregada.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ArvoreAvlBenchmark {
+
+    /**
+     * Quantidade de palavras da árvore. Para 10.000.000 de palavras, utilize -p tamanho=10000000 e -jvmArgsAppend
+     * -Xmx16g.
+     */
+    @Param({ "10000", "100000", "1000000" })
+    public int       tamanho;
+
+    private ArvoreAvl arvore;
+
+    private String[]  consultasZipf;
+
+    private String[]  consultasInexistentes;
+
+    private int       contador;
+
+    /**
+     * Método responsável por preparar a árvore e as consultas.
+     */
+    @Setup
+    public void preparar() {
+        arvore = CorpusSintetico.arvore(tamanho);
+        consultasZipf = CorpusSintetico.consultasZipf(tamanho);
+        consultasInexistentes = CorpusSintetico.consultasInexistentes(tamanho);
+    }
+
+    /**
+     * Pesquisa palavras existentes, sorteadas com distribuição de Zipf.
+     * 
+     * @return O dicionário encontrado.
+     */
+    @Benchmark
+    public Dicionario pesquisarExistente() {
+        return arvore.pesquisarDicionarioPelaPalavra(consultasZipf[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)]);
+    }
+
+    /**
+     * Pesquisa palavras inexistentes.
+     * 
+     * @return O dicionário retornado para a palavra inexistente.
+     */
+    @Benchmark
+    public Dicionario pesquisarInexistente() {
+        return arvore.pesquisarDicionarioPelaPalavra(consultasInexistentes[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)]);
+    }
+
+    /**
+     * Pesquisa as 10 primeiras palavras que começam com os 3 primeiros caracteres de uma palavra existente.
+     * 
+     * @return Os dicionários encontrados.
+     */
+    @Benchmark
+    public List<Dicionario> pesquisarPrefixo() {
+        String palavra = consultasZipf[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)];
+
+        return arvore.pesquisarDicionariosPeloPrefixo(palavra.substring(0, Math.min(3, palavra.length())), 10);
+    }
+
+    /**
+     * Resgata uma página de 20 dicionários em uma posição sorteada, sem percorrer as páginas anteriores.
+     * 
+     * @return Os dicionários da página.
+     */
+    @Benchmark
+    public List<Dicionario> getConteudoPaginado() {
+        return arvore.getConteudo((int) ((contador++ * 0x9E3779B9L & 0xFFFFFFFFL) % tamanho), 20);
+    }
+
+    /**
+     * Adiciona e remove uma palavra inexistente, mantendo o tamanho da árvore.
+     * 
+     * @return O dicionário removido.
+     */
+    @Benchmark
+    public Dicionario adicionarRemover() {
+        String palavra = consultasInexistentes[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)];
+
+        arvore.adicionar(new Dicionario(palavra));
+
+        return arvore.remover(palavra);
+    }
+
+    /**
+     * Resgata todo o conteúdo da árvore em ordem.
+     * 
+     * @return O conteúdo da árvore.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public List<Dicionario> getConteudo() {
+        return arvore.getConteudo();
+    }
+
+    /**
+     * Percorre todo o conteúdo da árvore em ordem, sem copiá-lo.
+     * 
+     * @return A quantidade de definições percorridas.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public long percorrer() {
+        long definicoes = 0;
+
+        for (Dicionario dicionario : arvore) {
+            definicoes += dicionario.getDefinicoes().size();
+        }
+
+        return definicoes;
+    }
+
+    /**
+     * Percorre todo o conteúdo da árvore em paralelo, no {@link java.util.concurrent.ForkJoinPool} comum.
+     * 
+     * @return A quantidade de definições percorridas.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public long percorrerEmParalelo() {
+        return arvore.parallelStream().mapToLong(dicionario -> dicionario.getDefinicoes().size()).sum();
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.DicionarioBinario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Benchmark do carregamento de um mesmo dicionário nos formatos texto e {@link DicionarioBinario binário}, com o
+ * tamanho de cada arquivo informado junto do resultado.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CarregamentoBinarioBenchmark {
+
+    /**
+     * Quantidade de palavras do dicionário.
+     */
+    @Param({ "1000000" })
+    public int   tamanho;
+
+    private File arquivoTexto;
+
+    private File arquivoBinario;
+
+    /**
+     * Tamanhos, em bytes, dos arquivos carregados, informados junto do resultado do benchmark. Como o JMH soma os
+     * eventos de todas as iterações, os tamanhos são informados somente na última iteração de medição.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TamanhosDosArquivos {
+
+        public long  bytesDoTexto;
+
+        public long  bytesDoBinario;
+
+        private int iteracoesMedidas;
+
+        /**
+         * Método responsável por informar os tamanhos dos arquivos ao final da última iteração de medição.
+         * 
+         * @param benchmark
+         *            Benchmark com os arquivos carregados.
+         * 
+         * @param iteracao
+         *            Parâmetros da iteração finalizada.
+         */
+        @TearDown(Level.Iteration)
+        public void finalizar(CarregamentoBinarioBenchmark benchmark, IterationParams iteracao) {
+            boolean ultima = iteracao.getType() == IterationType.MEASUREMENT && ++iteracoesMedidas == iteracao.getCount();
+
+            bytesDoTexto = ultima ? benchmark.arquivoTexto.length() : 0;
+            bytesDoBinario = ultima ? benchmark.arquivoBinario.length() : 0;
+        }
+
+    }
+
+    /**
+     * Método responsável por salvar o dicionário nos dois formatos.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar os arquivos temporários.
+     */
+    @Setup
+    public void preparar() throws IOException {
+        Tradutor tradutor = CorpusSintetico.tradutor(tamanho);
+
+        arquivoTexto = File.createTempFile("dicionario", ".dat");
+        arquivoBinario = File.createTempFile("dicionario", ".bin");
+
+        tradutor.salvaDicionario(arquivoTexto.getAbsolutePath());
+        tradutor.salvaDicionarioBinario(arquivoBinario.getAbsolutePath());
+    }
+
+    /**
+     * Método responsável por remover os arquivos temporários.
+     */
+    @TearDown
+    public void finalizar() {
+        arquivoTexto.delete();
+        arquivoBinario.delete();
+    }
+
+    /**
+     * Carrega o dicionário no formato texto em um tradutor vazio.
+     * 
+     * @param tamanhos
+     *            Tamanhos dos arquivos, informados junto do resultado.
+     * 
+     * @return O tradutor carregado.
+     */
+    @Benchmark
+    public Tradutor carregaDicionario(TamanhosDosArquivos tamanhos) {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.carregaDicionario(arquivoTexto.getAbsolutePath());
+
+        return tradutor;
+    }
+
+    /**
+     * Carrega o dicionário no formato binário em um tradutor vazio.
+     * 
+     * @param tamanhos
+     *            Tamanhos dos arquivos, informados junto do resultado.
+     * 
+     * @return O tradutor carregado.
+     */
+    @Benchmark
+    public Tradutor carregaDicionarioBinario(TamanhosDosArquivos tamanhos) {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.carregaDicionarioBinario(arquivoBinario.getAbsolutePath());
+
+        return tradutor;
+    }
+
+}
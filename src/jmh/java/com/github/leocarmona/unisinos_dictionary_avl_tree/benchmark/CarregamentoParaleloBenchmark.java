@@ -0,0 +1,106 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.CarregamentoParalelo;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Benchmark do carregamento de um arquivo de dicionário pelo {@link CarregamentoParalelo}, com diferentes quantidades
+ * de threads, comparado ao carregamento linha a linha de {@link Tradutor#carregaDicionario(String)}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CarregamentoParaleloBenchmark {
+
+    /**
+     * Quantidade de palavras do arquivo.
+     */
+    @Param({ "1000000" })
+    public int           tamanho;
+
+    /**
+     * Quantidade de threads do executor.
+     */
+    @Param({ "1", "2", "4", "8" })
+    public int           threads;
+
+    private ForkJoinPool executor;
+
+    private File         arquivo;
+
+    /**
+     * Método responsável por preparar o executor e o arquivo de dicionário.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar o arquivo temporário.
+     */
+    @Setup
+    public void preparar() throws IOException {
+        executor = new ForkJoinPool(threads);
+        arquivo = File.createTempFile("dicionario", ".dat");
+
+        CorpusSintetico.tradutor(tamanho).salvaDicionario(arquivo.getAbsolutePath());
+    }
+
+    /**
+     * Método responsável por finalizar o executor e remover o arquivo temporário.
+     */
+    @TearDown
+    public void finalizar() {
+        executor.shutdown();
+        arquivo.delete();
+    }
+
+    /**
+     * Carrega o arquivo em um tradutor vazio, linha a linha, sem paralelismo.
+     * 
+     * @return O tradutor carregado.
+     */
+    @Benchmark
+    public Tradutor carregaDicionario() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.carregaDicionario(arquivo.getAbsolutePath());
+
+        return tradutor;
+    }
+
+    /**
+     * Carrega o arquivo em um tradutor vazio, em pedaços lidos e intercalados em paralelo.
+     * 
+     * @return O tradutor carregado.
+     */
+    @Benchmark
+    public Tradutor carregaDicionarios() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.carregaDicionarios(executor, arquivo.getAbsolutePath());
+
+        return tradutor;
+    }
+
+}
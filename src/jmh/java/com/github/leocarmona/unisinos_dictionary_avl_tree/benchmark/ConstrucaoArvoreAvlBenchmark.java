@@ -0,0 +1,96 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+
+/**
+ * Benchmark da construção e destruição completa de uma {@link ArvoreAvl}. O tempo dividido pelo tamanho indica o custo
+ * por operação, que deve crescer de forma logarítmica.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConstrucaoArvoreAvlBenchmark {
+
+    /**
+     * Quantidade de palavras da árvore.
+     */
+    @Param({ "10000", "100000", "1000000" })
+    public int               tamanho;
+
+    private List<Dicionario> dicionarios;
+
+    private List<String>     palavras;
+
+    private ArvoreAvl        arvoreCheia;
+
+    /**
+     * Método responsável por preparar os dicionários a serem adicionados e a árvore a ser esvaziada.
+     */
+    @Setup(Level.Invocation)
+    public void preparar() {
+        dicionarios = new ArrayList<>(tamanho);
+        palavras = new ArrayList<>(tamanho);
+
+        for (int i = 0; i < tamanho; i++) {
+            dicionarios.add(new Dicionario(CorpusSintetico.palavra(i), CorpusSintetico.definicoes(i, 2)));
+            palavras.add(CorpusSintetico.palavra(i));
+        }
+
+        arvoreCheia = CorpusSintetico.arvore(tamanho);
+    }
+
+    /**
+     * Adiciona todas as palavras, uma a uma, em uma árvore vazia.
+     * 
+     * @return A árvore construída.
+     */
+    @Benchmark
+    public ArvoreAvl adicionar() {
+        ArvoreAvl arvore = new ArvoreAvl();
+
+        for (Dicionario dicionario : dicionarios) {
+            arvore.adicionar(dicionario);
+        }
+
+        return arvore;
+    }
+
+    /**
+     * Remove todas as palavras, uma a uma, de uma árvore cheia.
+     * 
+     * @return A árvore esvaziada.
+     */
+    @Benchmark
+    public ArvoreAvl remover() {
+        for (String palavra : palavras) {
+            arvoreCheia.remover(palavra);
+        }
+
+        return arvoreCheia;
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Classe responsável por gerar os corpora sintéticos utilizados pelos benchmarks.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class CorpusSintetico {
+
+    /**
+     * Quantidade de consultas pré-calculadas. Deve ser uma potência de 2.
+     */
+    public static final int QUANTIDADE_DE_CONSULTAS = 1 << 16;
+
+    /**
+     * Construtor privado, pois a classe possui somente métodos estáticos.
+     */
+    private CorpusSintetico() {
+    }
+
+    /**
+     * Método responsável por gerar a palavra de um índice. Índices diferentes geram palavras diferentes, em ordem
+     * pseudoaleatória.
+     * 
+     * @param indice
+     *            Índice da palavra.
+     * 
+     * @return A palavra do índice.
+     */
+    public static String palavra(long indice) {
+        return Long.toString((indice + 1) * 0x9E3779B97F4A7C15L & Long.MAX_VALUE, 36);
+    }
+
+    /**
+     * Método responsável por gerar as definições de um índice.
+     * 
+     * @param indice
+     *            Índice da palavra.
+     * 
+     * @param quantidade
+     *            Quantidade de definições.
+     * 
+     * @return As definições do índice.
+     */
+    public static List<String> definicoes(long indice, int quantidade) {
+        List<String> definicoes = new ArrayList<>(quantidade);
+
+        for (int i = 0; i < quantidade; i++) {
+            definicoes.add("traducao " + Long.toString(indice, 36) + " " + i);
+        }
+
+        return definicoes;
+    }
+
+    /**
+     * Método responsável por gerar uma árvore com as palavras de 0 até tamanho - 1.
+     * 
+     * @param tamanho
+     *            Quantidade de palavras.
+     * 
+     * @return A árvore gerada.
+     */
+    public static ArvoreAvl arvore(int tamanho) {
+        ArvoreAvl arvore = new ArvoreAvl();
+
+        for (int i = 0; i < tamanho; i++) {
+            arvore.adicionar(new Dicionario(palavra(i), definicoes(i, 2)));
+        }
+
+        return arvore;
+    }
+
+    /**
+     * Método responsável por gerar um tradutor com as palavras de 0 até tamanho - 1.
+     * 
+     * @param tamanho
+     *            Quantidade de palavras.
+     * 
+     * @return O tradutor gerado.
+     */
+    public static Tradutor tradutor(int tamanho) {
+        Tradutor tradutor = new Tradutor();
+
+        for (int i = 0; i < tamanho; i++) {
+            tradutor.insereTraducao(palavra(i), definicoes(i, 2));
+        }
+
+        return tradutor;
+    }
+
+    /**
+     * Método responsável por gerar palavras existentes no corpus, sorteadas com distribuição de Zipf (expoente 1), como
+     * a frequência das palavras em textos reais.
+     * 
+     * @param tamanho
+     *            Quantidade de palavras do corpus.
+     * 
+     * @return As palavras sorteadas.
+     */
+    public static String[] consultasZipf(int tamanho) {
+        double[] acumulado = new double[tamanho];
+        String[] consultas = new String[QUANTIDADE_DE_CONSULTAS];
+        Random random = new Random(42);
+        double soma = 0;
+
+        for (int i = 0; i < tamanho; i++) {
+            acumulado[i] = soma += 1.0 / (i + 1);
+        }
+
+        for (int i = 0; i < consultas.length; i++) {
+            int posicao = Arrays.binarySearch(acumulado, random.nextDouble() * soma);
+
+            consultas[i] = palavra(Math.min(posicao < 0 ? -posicao - 1 : posicao, tamanho - 1));
+        }
+
+        return consultas;
+    }
+
+    /**
+     * Método responsável por gerar palavras que não existem no corpus.
+     * 
+     * @param tamanho
+     *            Quantidade de palavras do corpus.
+     * 
+     * @return As palavras inexistentes.
+     */
+    public static String[] consultasInexistentes(int tamanho) {
+        String[] consultas = new String[QUANTIDADE_DE_CONSULTAS];
+
+        for (int i = 0; i < consultas.length; i++) {
+            consultas[i] = palavra((long) tamanho + i);
+        }
+
+        return consultas;
+    }
+
+    /**
+     * Método responsável por gerar um texto com as palavras informadas, separadas por espaços, pontuação e quebras de
+     * linha.
+     * 
+     * @param palavras
+     *            Palavras do texto.
+     * 
+     * @return O texto gerado.
+     */
+    public static String texto(String[] palavras) {
+        StringBuilder texto = new StringBuilder();
+
+        for (int i = 0; i < palavras.length; i++) {
+            texto.append(palavras[i]).append(i % 16 == 15 ? ".\n" : i % 4 == 3 ? ", " : " ");
+        }
+
+        return texto.toString();
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+
+/**
+ * Benchmark da unificação, da remoção e do ajuste de definições do {@link Dicionario}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DicionarioBenchmark {
+
+    /**
+     * Quantidade de definições existentes e de novas definições.
+     */
+    @Param({ "1", "10", "100", "500" })
+    public int           quantidade;
+
+    private List<String> definicoes;
+
+    private List<String> novasDefinicoes;
+
+    /**
+     * Definições como chegam de um arquivo editado à mão: metade já normalizada e metade com letras maiúsculas e espaços
+     * em branco excedentes.
+     */
+    private List<String> definicoesNaoAjustadas;
+
+    /**
+     * Método responsável por preparar as definições.
+     */
+    @Setup
+    public void preparar() {
+        definicoes = CorpusSintetico.definicoes(1, quantidade);
+        novasDefinicoes = CorpusSintetico.definicoes(2, quantidade);
+        definicoesNaoAjustadas = new ArrayList<>(quantidade);
+
+        for (int i = 0; i < quantidade; i++) {
+            definicoesNaoAjustadas.add(i % 2 == 0 ? definicoes.get(i) : "  " + definicoes.get(i).toUpperCase().replace(" ", "\t ") + " ");
+        }
+    }
+
+    /**
+     * Unifica novas definições, todas inéditas, em um dicionário.
+     * 
+     * @return O dicionário com as definições unificadas.
+     */
+    @Benchmark
+    public Dicionario adicionarDefinicoes() {
+        Dicionario dicionario = new Dicionario("palavra", definicoes);
+
+        dicionario.adicionarDefinicoes(novasDefinicoes);
+
+        return dicionario;
+    }
+
+    /**
+     * Remove uma a cada 10 definições de um dicionário.
+     * 
+     * @return O dicionário com as definições restantes.
+     */
+    @Benchmark
+    public Dicionario removerDefinicoes() {
+        Dicionario dicionario = new Dicionario("palavra", definicoes);
+
+        for (int i = 0; i < quantidade; i += 10) {
+            dicionario.removerDefinicao(definicoes.get(i));
+        }
+
+        return dicionario;
+    }
+
+    /**
+     * Ajusta as definições em uma única passagem, sem expressões regulares.
+     * 
+     * @return As definições ajustadas.
+     */
+    @Benchmark
+    public List<String> ajustarDefinicoes() {
+        List<String> ajustadas = new ArrayList<>(definicoesNaoAjustadas);
+
+        Dicionario.Utils.ajustarDefinicoes(ajustadas);
+
+        return ajustadas;
+    }
+
+    /**
+     * Ajusta as definições da forma anterior, com uma expressão regular e um conjunto intermediário, para comparação.
+     * 
+     * @return As definições ajustadas.
+     */
+    @Benchmark
+    public List<String> ajustarDefinicoesComExpressaoRegular() {
+        List<String> ajustadas = new ArrayList<>(definicoesNaoAjustadas);
+        Set<String> _definicoes = new LinkedHashSet<>();
+
+        for (int i = 0; i < ajustadas.size(); i++) {
+            if (!StringUtils.isBlank(ajustadas.get(i))) {
+                _definicoes.add(ajustadas.get(i).trim().toLowerCase().replaceAll("\\s+", " "));
+            }
+        }
+
+        ajustadas.clear();
+        ajustadas.addAll(_definicoes);
+
+        return ajustadas;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Benchmark do salvamento de um dicionário grande pelo {@link Tradutor#salvaDicionario(String)}, separado do
+ * {@link TradutorBenchmark} para não manter outros tradutores em memória.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SalvamentoBenchmark {
+
+    /**
+     * Quantidade de palavras do dicionário.
+     */
+    @Param({ "5000000" })
+    public int       tamanho;
+
+    private Tradutor tradutor;
+
+    private File     arquivo;
+
+    /**
+     * Método responsável por preparar o tradutor e o arquivo de destino.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar o arquivo temporário.
+     */
+    @Setup
+    public void preparar() throws IOException {
+        tradutor = CorpusSintetico.tradutor(tamanho);
+        arquivo = File.createTempFile("dicionario", ".dat");
+    }
+
+    /**
+     * Método responsável por remover o arquivo temporário.
+     */
+    @TearDown
+    public void finalizar() {
+        arquivo.delete();
+    }
+
+    /**
+     * Salva o dicionário completo, substituindo o arquivo salvo anteriormente.
+     * 
+     * @return O tamanho do arquivo salvo.
+     */
+    @Benchmark
+    public long salvaDicionario() {
+        tradutor.salvaDicionario(arquivo.getAbsolutePath());
+
+        return arquivo.length();
+    }
+
+}
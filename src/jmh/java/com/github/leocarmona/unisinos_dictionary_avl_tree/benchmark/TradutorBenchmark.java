@@ -0,0 +1,272 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.benchmark;
+
+import java.io.CharArrayWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.CacheDeTraducoes;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.TraducaoDeTexto;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
+
+/**
+ * Benchmark do carregamento, do salvamento e da tradução do {@link Tradutor}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TradutorBenchmark {
+
+    /**
+     * Quantidade de palavras de um documento traduzido de uma só vez.
+     */
+    private static final int TAMANHO_DO_DOCUMENTO = 10_000;
+
+    /**
+     * Quantidade de palavras do dicionário.
+     */
+    @Param({ "10000", "100000", "1000000" })
+    public int               tamanho;
+
+    private Tradutor         tradutor;
+
+    private Tradutor         tradutorComIndice;
+
+    private Tradutor         tradutorComCache;
+
+    private File             arquivo;
+
+    private File             arquivoSalvo;
+
+    private String[]         consultasZipf;
+
+    private List<String>     documento;
+
+    private String           texto;
+
+    private int              contador;
+
+    /**
+     * Método responsável por preparar o tradutor e o arquivo de dicionário.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar os arquivos temporários.
+     */
+    @Setup
+    public void preparar() throws IOException {
+        tradutor = CorpusSintetico.tradutor(tamanho);
+        tradutorComIndice = CorpusSintetico.tradutor(tamanho);
+        tradutorComIndice.habilitaIndice();
+        tradutorComCache = CorpusSintetico.tradutor(tamanho);
+        tradutorComCache.habilitaCache(tamanho / 100);
+        consultasZipf = CorpusSintetico.consultasZipf(tamanho);
+        documento = Arrays.asList(consultasZipf).subList(0, TAMANHO_DO_DOCUMENTO);
+        texto = CorpusSintetico.texto(consultasZipf);
+        arquivo = File.createTempFile("dicionario", ".dat");
+        arquivoSalvo = File.createTempFile("dicionario-salvo", ".dat");
+
+        tradutor.salvaDicionario(arquivo.getAbsolutePath());
+    }
+
+    /**
+     * Contadores do cache em cada iteração, informados junto do resultado do benchmark.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ContadoresDoCache {
+
+        public long  acertos;
+
+        public long  falhas;
+
+        private long acertosNoInicio;
+
+        private long falhasNoInicio;
+
+        /**
+         * Método responsável por guardar os contadores do cache no início da iteração.
+         * 
+         * @param benchmark
+         *            Benchmark com o tradutor que utiliza o cache.
+         */
+        @Setup(Level.Iteration)
+        public void iniciar(TradutorBenchmark benchmark) {
+            final CacheDeTraducoes cache = benchmark.tradutorComCache.getCache();
+
+            acertosNoInicio = cache.getAcertos();
+            falhasNoInicio = cache.getFalhas();
+        }
+
+        /**
+         * Método responsável por informar os acertos e as falhas do cache durante a iteração.
+         * 
+         * @param benchmark
+         *            Benchmark com o tradutor que utiliza o cache.
+         */
+        @TearDown(Level.Iteration)
+        public void finalizar(TradutorBenchmark benchmark) {
+            final CacheDeTraducoes cache = benchmark.tradutorComCache.getCache();
+
+            acertos = cache.getAcertos() - acertosNoInicio;
+            falhas = cache.getFalhas() - falhasNoInicio;
+        }
+
+    }
+
+    /**
+     * Método responsável por remover os arquivos temporários.
+     */
+    @TearDown
+    public void finalizar() {
+        arquivo.delete();
+        arquivoSalvo.delete();
+    }
+
+    /**
+     * Carrega o dicionário completo em um tradutor vazio.
+     * 
+     * @return O tradutor carregado.
+     */
+    @Benchmark
+    public Tradutor carregaDicionario() {
+        Tradutor tradutorCarregado = new Tradutor();
+
+        tradutorCarregado.carregaDicionario(arquivo.getAbsolutePath());
+
+        return tradutorCarregado;
+    }
+
+    /**
+     * Salva o dicionário completo.
+     * 
+     * @return O tamanho do arquivo salvo.
+     */
+    @Benchmark
+    public long salvaDicionario() {
+        tradutor.salvaDicionario(arquivoSalvo.getAbsolutePath());
+
+        return arquivoSalvo.length();
+    }
+
+    /**
+     * Traduz palavras existentes, sorteadas com distribuição de Zipf.
+     * 
+     * @return As traduções da palavra.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public List<String> traduzPalavra() {
+        return tradutor.traduzPalavra(consultasZipf[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)]);
+    }
+
+    /**
+     * Traduz palavras existentes, sorteadas com distribuição de Zipf, com o índice de pesquisa exata habilitado.
+     * 
+     * @return As traduções da palavra.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public List<String> traduzPalavraComIndice() {
+        return tradutorComIndice.traduzPalavra(consultasZipf[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)]);
+    }
+
+    /**
+     * Traduz palavras existentes, sorteadas com distribuição de Zipf, com um cache de 1% das palavras.
+     * 
+     * @param contadores
+     *            Acertos e falhas do cache, informados junto do resultado.
+     * 
+     * @return As traduções da palavra.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public List<String> traduzPalavraComCache(ContadoresDoCache contadores) {
+        return tradutorComCache.traduzPalavra(consultasZipf[contador++ & (CorpusSintetico.QUANTIDADE_DE_CONSULTAS - 1)]);
+    }
+
+    /**
+     * Traduz um documento de 10.000 palavras, uma palavra por chamada.
+     * 
+     * @return A quantidade de palavras traduzidas.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public int traduzDocumentoPalavraAPalavra() {
+        int traduzidas = 0;
+
+        for (String palavra : documento) {
+            traduzidas += tradutor.traduzPalavra(palavra).isEmpty() ? 0 : 1;
+        }
+
+        return traduzidas;
+    }
+
+    /**
+     * Traduz um documento de 10.000 palavras em uma só chamada.
+     * 
+     * @return As traduções do documento.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Map<String, List<String>> traduzDocumentoEmLote() {
+        return tradutor.traduzPalavras(documento);
+    }
+
+    /**
+     * Traduz um texto de {@link CorpusSintetico#QUANTIDADE_DE_CONSULTAS} palavras pela {@link TraducaoDeTexto}. O
+     * tamanho do texto dividido pelo tempo indica a vazão da tradução.
+     * 
+     * @return A quantidade de palavras traduzidas.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro na tradução.
+     */
+    @Benchmark
+    public long traduzTexto() throws IOException {
+        return new TraducaoDeTexto(tradutor).traduzir(new StringReader(texto), new CharArrayWriter(texto.length()));
+    }
+
+}
@@ -1,12 +1,20 @@
 package com.github.leocarmona.unisinos_dictionary_avl_tree;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
 import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.TraducaoDeTexto;
 import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
 
 /**
@@ -17,18 +25,24 @@ import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
  */
 public class App {
 
-    private static final String   DIVISOR           = "==================================================";
-    private static final Tradutor TRADUTOR          = new Tradutor();
-    private static final File     DICIONARIO_PADRAO = new File("dicionario.dat");
-    private static final Scanner  TECLADO           = new Scanner(System.in);
+    private static final String   DIVISOR                 = "==================================================";
+    private static final Tradutor TRADUTOR                = new Tradutor();
+    private static final File     DICIONARIO_PADRAO       = new File("dicionario.dat");
+    private static final Scanner  TECLADO                 = new Scanner(System.in);
+    private static final int      QUANTIDADE_DE_SUGESTOES = 10;
 
     /**
      * Ponto de entrada inicial do aplicativo.
      * 
      * @param args
-     *            Argumentos para o aplicativo.
+     *            Argumentos para o aplicativo. Com "traduzir [arquivo]", traduz o arquivo de texto informado, ou a
+     *            entrada padrão, para a saída padrão e encerra.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && "traduzir".equals(args[0])) {
+            System.exit(App.traduzirTexto(DICIONARIO_PADRAO, args.length > 1 ? new File(args[1]) : null) ? 0 : 1);
+        }
+
         App.carregarDicionarioPadrao();
 
         while (true) {
@@ -52,6 +66,18 @@ public class App {
             salvarDicionario(false);
         }
 
+        // O índice de pesquisa exata é habilitado com -Dtradutor.indice=true.
+        if (Boolean.getBoolean("tradutor.indice")) {
+            TRADUTOR.habilitaIndice();
+
+            System.out.println("Índice de pesquisa habilitado: " + (TRADUTOR.getMemoriaDoIndice() / 1024) + " KB");
+        }
+
+        // O cache de traduções é habilitado com -Dtradutor.cache=<quantidade de palavras>.
+        if (Integer.getInteger("tradutor.cache", 0) > 0) {
+            TRADUTOR.habilitaCache(Integer.getInteger("tradutor.cache"));
+        }
+
         System.out.println("");
     }
 
@@ -67,6 +93,8 @@ public class App {
         System.out.println("4) Remover definição");
         System.out.println("5) Listar todas as definições");
         System.out.println("6) Salvar dicionário");
+        System.out.println("7) Traduzir arquivo de texto");
+        System.out.println("8) Pesquisar palavras pelo início");
         System.out.println("0) Sair");
 
         int resposta;
@@ -84,7 +112,7 @@ public class App {
                 resposta = -1;
             }
 
-            if (erro || resposta < 0 || resposta > 6) {
+            if (erro || resposta < 0 || resposta > 8) {
                 continue;
             }
 
@@ -115,6 +143,15 @@ public class App {
             case 6:
                 salvarDicionario(true);
                 break;
+
+            case 7:
+                System.out.print("\nArquivo de texto: ");
+                traduzirTexto(new File(TECLADO.next().trim()));
+                break;
+
+            case 8:
+                pesquisarPalavras();
+                break;
         }
 
         if (resposta == 0) {
@@ -133,6 +170,10 @@ public class App {
                 }
             }
 
+            if (TRADUTOR.getCache() != null) {
+                System.out.println("\n" + TRADUTOR.getCache());
+            }
+
             System.out.println("\n" + DIVISOR + "\n");
 
             System.exit(0);
@@ -174,6 +215,64 @@ public class App {
         }
     }
 
+    /**
+     * Método responsável por carregar um dicionário e traduzir um arquivo de texto para a saída padrão. A saída padrão
+     * recebe somente o texto traduzido; o progresso do carregamento e as mensagens vão para a saída de erro.
+     * 
+     * @param dicionario
+     *            Arquivo de dicionário a ser carregado.
+     * 
+     * @param arquivo
+     *            Arquivo de texto, em UTF-8, a ser traduzido. Se null, traduz a entrada padrão.
+     * 
+     * @return Se true, o texto foi traduzido. Caso contrário, false.
+     */
+    static boolean traduzirTexto(File dicionario, File arquivo) {
+        TRADUTOR.carregaDicionario(dicionario.getAbsolutePath());
+
+        return App.traduzirTexto(arquivo);
+    }
+
+    /**
+     * Método responsável por traduzir um arquivo de texto para a saída padrão.
+     * 
+     * @param arquivo
+     *            Arquivo de texto, em UTF-8, a ser traduzido. Se null, traduz a entrada padrão.
+     * 
+     * @return Se true, o texto foi traduzido. Caso contrário, false.
+     */
+    private static boolean traduzirTexto(File arquivo) {
+        Writer saida = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+
+        try (Reader entrada = new InputStreamReader(arquivo == null ? System.in : new FileInputStream(arquivo), StandardCharsets.UTF_8)) {
+            long palavrasTraduzidas = new TraducaoDeTexto(TRADUTOR).traduzir(entrada, saida);
+
+            System.err.println("\nPalavras traduzidas: " + palavrasTraduzidas);
+
+            return true;
+        } catch (IOException e) {
+            System.err.println("Não foi possível traduzir o texto: " + e.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * Método responsável por pesquisar as palavras que começam com um prefixo.
+     */
+    private static void pesquisarPalavras() {
+        System.out.print("\nInício da palavra: ");
+
+        String prefixo = TECLADO.next().trim();
+        List<String> palavras = TRADUTOR.sugerePalavras(prefixo, QUANTIDADE_DE_SUGESTOES);
+
+        if (palavras.isEmpty()) {
+            System.out.println("\nNão há palavras que começam com '" + prefixo + "'.");
+        } else {
+            System.out.println("\nPalavras encontradas: " + palavras);
+        }
+    }
+
     /**
      * Método responsável por inserir novas definições.
      */
@@ -216,7 +315,7 @@ public class App {
                 System.out.print("Nova definição: ");
                 String novaDefinicao = TECLADO.next();
                 
-                definicoes.remove(indice);
+                TRADUTOR.removeDefinicao(palavra, definicao);
                 TRADUTOR.insereTraducao(palavra, new ArrayList<>(Arrays.asList(novaDefinicao)));
                 
                 System.out.println("A definição '" + definicao + "' foi alterada para '" + novaDefinicao + "' com sucesso!");
@@ -240,12 +339,12 @@ public class App {
         } else {
             System.out.println("Definições possíveis: " + definicoes);
             System.out.print("Remover definição: ");
-            palavra = TECLADO.next().trim().replaceAll("\\s+", " ").toLowerCase();
+            String definicao = TECLADO.next().trim().replaceAll("\\s+", " ").toLowerCase();
 
-            if (definicoes.remove(palavra)) {
-                System.out.println("A definição '" + palavra + "' foi removida com sucesso!");
+            if (TRADUTOR.removeDefinicao(palavra, definicao)) {
+                System.out.println("A definição '" + definicao + "' foi removida com sucesso!");
             } else {
-                System.out.println("A definição '" + palavra + "' não foi encontrada!");
+                System.out.println("A definição '" + definicao + "' não foi encontrada!");
             }
         }
     }
@@ -256,16 +355,16 @@ public class App {
     private static void listarDefinicoes() {
         System.out.print("\nDefinições existentes: ");
 
-        List<Dicionario> dicionarios = TRADUTOR.getConteudo();
+        int quantidade = TRADUTOR.getQuantidade();
 
-        if (dicionarios.isEmpty()) {
+        if (quantidade == 0) {
             System.out.print("O dicionário está vazio!");
         } else {
-            System.out.print(dicionarios.size() + "\n\n");
+            System.out.print(quantidade + "\n\n");
 
-            for (Dicionario dicionario : dicionarios) {
+            TRADUTOR.percorreDicionario(dicionario -> {
                 System.out.println("Palavra: [" + dicionario.getPalavra() + "]\t\tDefinições: " + dicionario.getDefinicoes());
-            }
+            });
         }
     }
 
@@ -6,8 +6,17 @@ import static com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.TipoDeRo
 import static com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.TipoDeRotacaoAvl.ESQUERDA;
 
 import java.io.Serializable;
+import java.text.CollationKey;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
 
@@ -17,13 +26,19 @@ import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
  * @author leonardo.carmona
  *
  */
-public class ArvoreAvl implements Serializable {
+public class ArvoreAvl implements Iterable<Dicionario>, Serializable {
 
     /**
      * Número de serialização da árvore AVL.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Quantidade máxima de dicionários visitados em uma pesquisa. Uma árvore AVL com 2^63 dicionários possui altura
+     * inferior a 92, logo o limite só é atingido em leituras concorrentes inconsistentes.
+     */
+    private static final int  LIMITE_DE_PASSOS = 128;
+
     /**
      * Dicionário raiz da árvore AVL.
      */
@@ -34,13 +49,131 @@ public class ArvoreAvl implements Serializable {
      * 
      * @param dicionario
      *            Novo dicionário a ser adicionado na árvore AVL.
+     * 
+     * @return O dicionário da árvore que contém a palavra: o próprio dicionário adicionado, ou o dicionário já existente
+     *         com o qual as definições foram unificadas.
      */
-    public void adicionar(Dicionario dicionario) {
+    public Dicionario adicionar(Dicionario dicionario) {
         if (raiz != null) {
-            this.adicionar(raiz, dicionario);
-        } else {
-            raiz = dicionario;
+            return this.adicionar(raiz, dicionario);
+        }
+
+        raiz = dicionario;
+
+        return dicionario;
+    }
+
+    /**
+     * Método responsável por construir a árvore AVL a partir de dicionários, substituindo o conteúdo atual. Se os
+     * dicionários estiverem na mesma ordem de {@link #getConteudo()}, a árvore é construída em tempo linear, sem
+     * rotações. Caso contrário, os dicionários são ordenados antes da construção. Dicionários com a mesma palavra têm as
+     * suas definições unificadas.
+     * 
+     * @param dicionarios
+     *            Dicionários a serem adicionados na árvore AVL.
+     */
+    public void construir(Iterable<Dicionario> dicionarios) {
+        List<Dicionario> listaDeDicionarios = new ArrayList<>();
+        boolean ordenado = true;
+
+        for (Dicionario dicionario : dicionarios) {
+            if (!listaDeDicionarios.isEmpty()) {
+                final Dicionario anterior = listaDeDicionarios.get(listaDeDicionarios.size() - 1);
+                final int resultadoDaComparacao = anterior.compararChave(dicionario.getChave());
+
+                // Mesma palavra do dicionário anterior, logo devemos unificar as definições.
+                if (resultadoDaComparacao == 0) {
+                    anterior.adicionarDefinicoes(dicionario.getDefinicoes());
+
+                    continue;
+                }
+
+                ordenado = ordenado && resultadoDaComparacao > 0;
+            }
+
+            listaDeDicionarios.add(dicionario);
+        }
+
+        if (!ordenado) {
+            ArvoreAvl.ordenar(listaDeDicionarios);
+        }
+
+        this.raiz = this.construir(listaDeDicionarios, 0, listaDeDicionarios.size() - 1, null);
+    }
+
+    /**
+     * Método responsável por construir a árvore AVL a partir de dicionários já na ordem de {@link #getConteudo()} e sem
+     * palavras repetidas, substituindo o conteúdo atual. A árvore é construída em tempo linear, sem comparar as palavras;
+     * a ordem não é verificada.
+     * 
+     * @param dicionarios
+     *            Dicionários ordenados, como os lidos de um dicionário binário.
+     */
+    public void construirOrdenado(List<Dicionario> dicionarios) {
+        this.raiz = this.construir(dicionarios, 0, dicionarios.size() - 1, null);
+    }
+
+    /**
+     * Método responsável por ordenar dicionários na ordem de {@link #getConteudo()}, unificando as definições dos
+     * dicionários com a mesma palavra no primeiro deles, da mesma forma que {@link #adicionar(Dicionario)}.
+     * 
+     * @param listaDeDicionarios
+     *            Dicionários a serem ordenados.
+     */
+    public static void ordenar(List<Dicionario> listaDeDicionarios) {
+        // A ordenação é estável, logo o primeiro dicionário de cada palavra continua sendo o primeiro.
+        listaDeDicionarios.sort((dicionario, outro) -> outro.compararChave(dicionario.getChave()));
+        ArvoreAvl.unificarDicionariosRepetidos(listaDeDicionarios);
+    }
+
+    /**
+     * Método responsável por intercalar duas sequências de dicionários ordenadas por {@link #ordenar(List)}, em tempo
+     * linear. Quando ambas possuem a mesma palavra, as definições do dicionário da segunda sequência são unificadas no
+     * dicionário da primeira, da mesma forma que {@link #adicionar(Dicionario)}.
+     * 
+     * @param primeiros
+     *            Primeira sequência de dicionários.
+     * 
+     * @param segundos
+     *            Segunda sequência de dicionários.
+     * 
+     * @return Os dicionários das duas sequências, ordenados e sem palavras repetidas.
+     */
+    public static List<Dicionario> intercalar(List<Dicionario> primeiros, List<Dicionario> segundos) {
+        final List<Dicionario> intercalados = new ArrayList<>(primeiros.size() + segundos.size());
+        int i = 0, j = 0;
+
+        while (i < primeiros.size() && j < segundos.size()) {
+            final Dicionario primeiro = primeiros.get(i), segundo = segundos.get(j);
+            final int resultadoDaComparacao = primeiro.compararChave(segundo.getChave());
+
+            if (resultadoDaComparacao > 0) {
+                intercalados.add(primeiro);
+                i++;
+            } else if (resultadoDaComparacao < 0) {
+                intercalados.add(segundo);
+                j++;
+            } else {
+                primeiro.adicionarDefinicoes(segundo.getDefinicoes());
+                intercalados.add(primeiro);
+                i++;
+                j++;
+            }
         }
+
+        intercalados.addAll(primeiros.subList(i, primeiros.size()));
+        intercalados.addAll(segundos.subList(j, segundos.size()));
+
+        return intercalados;
+    }
+
+    /**
+     * Método responsável por indicar se a árvore AVL está vazia.
+     * 
+     * @return True se a árvore AVL estiver vazia. Caso contrário, false.
+     */
+    public boolean ehVazia() {
+        return raiz == null;
     }
 
     /**
@@ -52,10 +185,25 @@ public class ArvoreAvl implements Serializable {
      * @return Um dicionário com as definições da palavra.
      */
     public Dicionario pesquisarDicionarioPelaPalavra(String palavra) {
+        final Dicionario dicionario = this.pesquisarDicionarioPelaChave(Dicionario.Utils.gerarChave(palavra));
+
+        // Retorna um dicionário com a palavra atual sem difinições. (Padrão para previnir NullPointerException)
+        return dicionario != null ? dicionario : new Dicionario(palavra);
+    }
+
+    /**
+     * Método responsável por pesquisar um dicionário pela chave de comparação da palavra.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra, gerada por {@link Dicionario.Utils#gerarChave(String)}.
+     * 
+     * @return O dicionário da palavra, ou null caso a palavra não exista.
+     */
+    public Dicionario pesquisarDicionarioPelaChave(CollationKey chave) {
         Dicionario dicionario = raiz;
 
-        while (dicionario != null) {
-            final int resultadoDaComparacao = dicionario.compararPalavra(palavra);
+        for (int passo = 0; dicionario != null && passo < LIMITE_DE_PASSOS; passo++) {
+            final int resultadoDaComparacao = dicionario.compararChave(chave);
 
             // A palavra é menor que o dicionário atual, logo pesquisar pelo dicionário da esquerda (menor).
             if (resultadoDaComparacao < 0) {
@@ -77,8 +225,173 @@ public class ArvoreAvl implements Serializable {
             }
         }
 
-        // Retorna um dicionário com a palavra atual sem difinições. (Padrão para previnir NullPointerException)
-        return new Dicionario(palavra);
+        return null;
+    }
+
+    /**
+     * Método responsável por pesquisar vários dicionários de uma só vez, em um único percurso da árvore. Cada subárvore é
+     * visitada no máximo uma vez, somente se alguma chave puder estar nela.
+     * 
+     * @param chaves
+     *            Chaves de comparação das palavras, sem repetições e na ordem de {@link #getConteudo()}.
+     * 
+     * @return Os dicionários de cada chave, na mesma posição da chave, ou null para as palavras inexistentes.
+     * 
+     * @throws IllegalStateException
+     *             Caso o percurso ultrapasse {@link #LIMITE_DE_PASSOS} níveis, o que só ocorre em leituras concorrentes
+     *             inconsistentes.
+     */
+    public Dicionario[] pesquisarDicionariosPelasChaves(CollationKey[] chaves) {
+        Dicionario[] dicionarios = new Dicionario[chaves.length];
+
+        this.pesquisarDicionariosPelasChaves(raiz, chaves, 0, chaves.length - 1, dicionarios, 0);
+
+        return dicionarios;
+    }
+
+    /**
+     * Método responsável por pesquisar as palavras que começam com um prefixo, em ordem alfabética. Ignora acentos e
+     * letras maiúsculas e minusculas. A pesquisa desce até a primeira palavra maior ou igual ao prefixo e percorre as
+     * seguintes até encontrar uma que não começa com o prefixo, em O(log n + limite).
+     * 
+     * @param prefixo
+     *            Início das palavras desejadas.
+     * 
+     * @param limite
+     *            Quantidade máxima de dicionários retornados. Um limite zero ou negativo resulta em uma lista vazia.
+     * 
+     * @return Os dicionários das palavras que começam com o prefixo, em ordem alfabética.
+     */
+    public List<Dicionario> pesquisarDicionariosPeloPrefixo(String prefixo, int limite) {
+        final CollationKey chave = Dicionario.Utils.gerarChave(prefixo);
+        final byte[] pesosDoPrefixo = Dicionario.Utils.getPesosPrimarios(chave);
+        final List<Dicionario> dicionarios = new ArrayList<>(Math.max(0, Math.min(limite, 16)));
+        Dicionario dicionarioAtual = this.pesquisarPrimeiroMaiorOuIgual(chave);
+
+        while (dicionarioAtual != null && dicionarios.size() < limite && dicionarioAtual.comecaCom(pesosDoPrefixo)) {
+            dicionarios.add(dicionarioAtual);
+            dicionarioAtual = this.getSucessor(dicionarioAtual);
+        }
+
+        return dicionarios;
+    }
+
+    /**
+     * Método responsável por remover um dicionário da árvore AVL pela palavra, balanceando a árvore em seguida.
+     * 
+     * @param palavra
+     *            Palavra do dicionário a ser removido.
+     * 
+     * @return O dicionário removido, ou null caso a palavra não exista.
+     */
+    public Dicionario remover(String palavra) {
+        final Dicionario dicionario = this.pesquisarDicionarioPelaChave(Dicionario.Utils.gerarChave(palavra));
+
+        if (dicionario != null) {
+            this.remover(dicionario);
+        }
+
+        return dicionario;
+    }
+
+    /**
+     * Método responsável por resgatar a quantidade de dicionários da árvore, em tempo constante.
+     * 
+     * @return A quantidade de dicionários da árvore.
+     */
+    public int getQuantidade() {
+        return Dicionario.Utils.getTamanho(raiz);
+    }
+
+    /**
+     * Método responsável por resgatar a posição de uma palavra na ordem de {@link #getConteudo()}, em O(log n).
+     * 
+     * @param palavra
+     *            Palavra desejada.
+     * 
+     * @return A posição da palavra, se existir. Caso contrário, (-(posição onde seria inserida) - 1), como em
+     *         {@link java.util.Collections#binarySearch(List, Object)}.
+     */
+    public int getPosicao(String palavra) {
+        final CollationKey chave = Dicionario.Utils.gerarChave(palavra);
+        Dicionario dicionarioAtual = raiz;
+        int anteriores = 0;
+
+        while (dicionarioAtual != null) {
+            final int resultadoDaComparacao = dicionarioAtual.compararChave(chave);
+
+            // As palavras maiores ficam à esquerda e vêm antes no percurso em ordem.
+            if (resultadoDaComparacao < 0) {
+                dicionarioAtual = dicionarioAtual.getEsquerda();
+            } else if (resultadoDaComparacao > 0) {
+                anteriores += Dicionario.Utils.getTamanho(dicionarioAtual.getEsquerda()) + 1;
+                dicionarioAtual = dicionarioAtual.getDireita();
+            } else {
+                return anteriores + Dicionario.Utils.getTamanho(dicionarioAtual.getEsquerda());
+            }
+        }
+
+        return -anteriores - 1;
+    }
+
+    /**
+     * Método responsável por resgatar o dicionário de uma posição na ordem de {@link #getConteudo()}, em O(log n).
+     * 
+     * @param posicao
+     *            Posição desejada, entre 0 e {@link #getQuantidade()} - 1.
+     * 
+     * @return O dicionário da posição.
+     * 
+     * @throws IndexOutOfBoundsException
+     *             Caso a posição não exista.
+     */
+    public Dicionario getDicionario(int posicao) {
+        if (posicao < 0 || posicao >= this.getQuantidade()) {
+            throw new IndexOutOfBoundsException("Posição: " + posicao + ", quantidade: " + this.getQuantidade());
+        }
+
+        Dicionario dicionarioAtual = raiz;
+
+        while (true) {
+            final int tamanhoDaEsquerda = Dicionario.Utils.getTamanho(dicionarioAtual.getEsquerda());
+
+            if (posicao < tamanhoDaEsquerda) {
+                dicionarioAtual = dicionarioAtual.getEsquerda();
+            } else if (posicao > tamanhoDaEsquerda) {
+                posicao -= tamanhoDaEsquerda + 1;
+                dicionarioAtual = dicionarioAtual.getDireita();
+            } else {
+                return dicionarioAtual;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por resgatar uma página do conteúdo da árvore, na ordem de {@link #getConteudo()}, em
+     * O(log n + quantidade), sem percorrer as páginas anteriores.
+     * 
+     * @param inicio
+     *            Posição do primeiro dicionário da página.
+     * 
+     * @param quantidade
+     *            Quantidade máxima de dicionários da página.
+     * 
+     * @return Os dicionários da página, ou uma lista vazia caso o início esteja fora da árvore.
+     */
+    public List<Dicionario> getConteudo(int inicio, int quantidade) {
+        if (inicio < 0 || inicio >= this.getQuantidade() || quantidade <= 0) {
+            return new ArrayList<>();
+        }
+
+        final List<Dicionario> pagina = new ArrayList<>(Math.min(quantidade, this.getQuantidade() - inicio));
+        Dicionario dicionarioAtual = this.getDicionario(inicio);
+
+        while (dicionarioAtual != null && pagina.size() < quantidade) {
+            pagina.add(dicionarioAtual);
+            dicionarioAtual = this.getAntecessor(dicionarioAtual);
+        }
+
+        return pagina;
     }
 
     /**
@@ -94,6 +407,92 @@ public class ArvoreAvl implements Serializable {
         return listaDeDicionarios;
     }
 
+    /**
+     * Método responsável por percorrer a árvore em ordem, na mesma ordem de {@link #getConteudo()}, sem copiar o seu
+     * conteúdo. O iterador segue os ponteiros para os pais, utilizando memória constante. A árvore não deve ser alterada
+     * durante a iteração.
+     * 
+     * @return O iterador dos dicionários da árvore.
+     */
+    @Override
+    public Iterator<Dicionario> iterator() {
+        Dicionario primeiro = raiz;
+
+        while (primeiro != null && primeiro.getEsquerda() != null) {
+            primeiro = primeiro.getEsquerda();
+        }
+
+        return new IteradorEmOrdem(primeiro, false, null);
+    }
+
+    /**
+     * Método responsável por dividir o percurso em ordem da árvore, na mesma ordem de {@link #getConteudo()}, em partes
+     * que podem ser percorridas em paralelo. A divisão segue os limites das subárvores. A árvore não deve ser alterada
+     * durante o percurso.
+     * 
+     * @return O divisor dos dicionários da árvore.
+     */
+    @Override
+    public Spliterator<Dicionario> spliterator() {
+        return new DivisorEmOrdem(raiz);
+    }
+
+    /**
+     * Método responsável por percorrer a árvore em ordem, na mesma ordem de {@link #getConteudo()}, sem copiar o seu
+     * conteúdo. A árvore não deve ser alterada durante o consumo do fluxo.
+     * 
+     * @return O fluxo sequencial dos dicionários da árvore.
+     */
+    public Stream<Dicionario> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Método responsável por percorrer a árvore em paralelo, dividindo-a entre as threads do
+     * {@link java.util.concurrent.ForkJoinPool}. A árvore não deve ser alterada durante o consumo do fluxo.
+     * 
+     * @return O fluxo paralelo dos dicionários da árvore.
+     */
+    public Stream<Dicionario> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Método responsável por criar uma visão, em ordem alfabética, das palavras entre duas palavras, como
+     * {@link java.util.NavigableMap#subMap(Object, Object)}. Ignora acentos e letras maiúsculas e minusculas. Cada
+     * iteração desce até a primeira palavra do intervalo e segue os ponteiros para os pais, em O(log n + k) e memória
+     * constante. A árvore não deve ser alterada durante a iteração.
+     * 
+     * @param primeiraPalavra
+     *            Início do intervalo (inclusivo), ou null para começar pela menor palavra.
+     * 
+     * @param palavraFinal
+     *            Fim do intervalo (exclusivo), ou null para terminar na maior palavra.
+     * 
+     * @return A visão dos dicionários do intervalo.
+     */
+    public Iterable<Dicionario> intervalo(String primeiraPalavra, String palavraFinal) {
+        final CollationKey chaveInicial = primeiraPalavra == null ? null : Dicionario.Utils.gerarChave(primeiraPalavra);
+        final CollationKey chaveFinal = palavraFinal == null ? null : Dicionario.Utils.gerarChave(palavraFinal);
+
+        return () -> {
+            Dicionario primeiro;
+
+            if (chaveInicial != null) {
+                primeiro = this.pesquisarPrimeiroMaiorOuIgual(chaveInicial);
+            } else {
+                primeiro = raiz;
+
+                // As palavras menores ficam à direita.
+                while (primeiro != null && primeiro.getDireita() != null) {
+                    primeiro = primeiro.getDireita();
+                }
+            }
+
+            return new IteradorEmOrdem(primeiro, true, chaveFinal);
+        };
+    }
+
     /**
      * Método responsável por adicionar um novo dicionário (nodo) no atual.
      * 
@@ -102,40 +501,312 @@ public class ArvoreAvl implements Serializable {
      * 
      * @param novoDicionario
      *            Novo dicionario a ser adicionado no dicionário atual.
+     * 
+     * @return O dicionário da árvore que contém a palavra.
      */
-    protected void adicionar(Dicionario dicionarioAtual, Dicionario novoDicionario) {
-        final int resultadoDaComparacao = dicionarioAtual.compararPalavra(novoDicionario.getPalavra());
+    protected Dicionario adicionar(Dicionario dicionarioAtual, Dicionario novoDicionario) {
+        final CollationKey chave = novoDicionario.getChave();
+
+        while (true) {
+            final int resultadoDaComparacao = dicionarioAtual.compararChave(chave);
+
+            // Ambos os dicionários são iguais, logo devemos unificar as definições.
+            if (resultadoDaComparacao == 0) {
+                dicionarioAtual.adicionarDefinicoes(novoDicionario.getDefinicoes());
+
+                return dicionarioAtual;
+            }
+
+            // O novo dicionário é menor que o dicionário atual (esquerda) ou maior (direita).
+            final Dicionario proximoDicionario = resultadoDaComparacao < 0 ? dicionarioAtual.getEsquerda() : dicionarioAtual.getDireita();
+
+            if (proximoDicionario == null) {
+                if (resultadoDaComparacao < 0) {
+                    dicionarioAtual.setEsquerda(novoDicionario);
+                } else {
+                    dicionarioAtual.setDireita(novoDicionario);
+                }
 
-        // O novo dicionário é menor que o dicionário atual (esquerda).
-        if (resultadoDaComparacao < 0) {
-            // O nodo a adicionar é menor que o nodo atual (esquerda)
-            if (dicionarioAtual.getEsquerda() == null) {
-                dicionarioAtual.setEsquerda(novoDicionario);
                 novoDicionario.setPai(dicionarioAtual);
-                this.balancear(novoDicionario);
+                novoDicionario.atualizarAltura();
+                novoDicionario.atualizarTamanho();
+                this.balancear(dicionarioAtual);
+
+                return novoDicionario;
+            }
+
+            dicionarioAtual = proximoDicionario;
+        }
+    }
+
+    /**
+     * Método responsável por construir uma subárvore perfeitamente balanceada a partir de um intervalo de dicionários
+     * ordenados.
+     * 
+     * @param listaDeDicionarios
+     *            Dicionários ordenados e sem palavras repetidas.
+     * 
+     * @param inicio
+     *            Índice inicial do intervalo (inclusivo).
+     * 
+     * @param fim
+     *            Índice final do intervalo (inclusivo).
+     * 
+     * @param pai
+     *            Dicionário pai da subárvore.
+     * 
+     * @return A raiz da subárvore, ou null se o intervalo for vazio.
+     */
+    protected Dicionario construir(List<Dicionario> listaDeDicionarios, int inicio, int fim, Dicionario pai) {
+        if (inicio > fim) {
+            return null;
+        }
+
+        final int meio = (inicio + fim) >>> 1;
+        final Dicionario dicionario = listaDeDicionarios.get(meio);
+
+        dicionario.setPai(pai);
+        dicionario.setEsquerda(this.construir(listaDeDicionarios, inicio, meio - 1, dicionario));
+        dicionario.setDireita(this.construir(listaDeDicionarios, meio + 1, fim, dicionario));
+        dicionario.atualizarAltura();
+        dicionario.atualizarTamanho();
+
+        return dicionario;
+    }
+
+    /**
+     * Método responsável por unificar as definições dos dicionários consecutivos com a mesma palavra, mantendo somente
+     * o primeiro deles na lista.
+     * 
+     * @param listaDeDicionarios
+     *            Dicionários ordenados.
+     */
+    protected static void unificarDicionariosRepetidos(List<Dicionario> listaDeDicionarios) {
+        int tamanho = 0;
+
+        for (int i = 0; i < listaDeDicionarios.size(); i++) {
+            final Dicionario dicionario = listaDeDicionarios.get(i);
+
+            if (tamanho > 0 && listaDeDicionarios.get(tamanho - 1).compararChave(dicionario.getChave()) == 0) {
+                listaDeDicionarios.get(tamanho - 1).adicionarDefinicoes(dicionario.getDefinicoes());
             } else {
-                this.adicionar(dicionarioAtual.getEsquerda(), novoDicionario);
+                listaDeDicionarios.set(tamanho++, dicionario);
             }
+        }
 
+        listaDeDicionarios.subList(tamanho, listaDeDicionarios.size()).clear();
+    }
+
+    /**
+     * Método responsável por pesquisar um intervalo de chaves ordenadas em uma subárvore.
+     * 
+     * @param dicionarioAtual
+     *            Raiz da subárvore.
+     * 
+     * @param chaves
+     *            Chaves de comparação, sem repetições e na ordem de {@link #getConteudo()}.
+     * 
+     * @param inicio
+     *            Índice inicial do intervalo de chaves (inclusivo).
+     * 
+     * @param fim
+     *            Índice final do intervalo de chaves (inclusivo).
+     * 
+     * @param dicionarios
+     *            Vetor onde serão salvos os dicionários encontrados.
+     * 
+     * @param profundidade
+     *            Nível da subárvore, sendo 0 o da raiz.
+     * 
+     * @throws IllegalStateException
+     *             Caso a profundidade ultrapasse {@link #LIMITE_DE_PASSOS}. Uma leitura sem trava, concorrente a uma
+     *             rotação, pode seguir um ciclo de dicionários; a exceção substitui o estouro da pilha, permitindo que a
+     *             leitura seja repetida com a trava.
+     */
+    protected void pesquisarDicionariosPelasChaves(Dicionario dicionarioAtual, CollationKey[] chaves, int inicio, int fim, Dicionario[] dicionarios,
+            int profundidade) {
+        if (dicionarioAtual == null || inicio > fim) {
             return;
         }
 
-        // O novo dicionário é maior que o dicionário atual (direita).
-        if (resultadoDaComparacao > 0) {
-            if (dicionarioAtual.getDireita() == null) {
-                dicionarioAtual.setDireita(novoDicionario);
-                novoDicionario.setPai(dicionarioAtual);
-                this.balancear(novoDicionario);
+        if (profundidade >= LIMITE_DE_PASSOS) {
+            throw new IllegalStateException("A pesquisa ultrapassou a altura máxima da árvore");
+        }
+
+        // Pesquisa binária pela primeira chave que não pertence à subárvore da esquerda.
+        int esquerda = inicio, direita = fim + 1;
+
+        while (esquerda < direita) {
+            final int meio = (esquerda + direita) >>> 1;
+
+            if (dicionarioAtual.compararChave(chaves[meio]) < 0) {
+                esquerda = meio + 1;
             } else {
-                this.adicionar(dicionarioAtual.getDireita(), novoDicionario);
+                direita = meio;
             }
+        }
 
-            return;
+        this.pesquisarDicionariosPelasChaves(dicionarioAtual.getEsquerda(), chaves, inicio, esquerda - 1, dicionarios, profundidade + 1);
+
+        if (esquerda <= fim && dicionarioAtual.compararChave(chaves[esquerda]) == 0) {
+            dicionarios[esquerda++] = dicionarioAtual;
+        }
+
+        this.pesquisarDicionariosPelasChaves(dicionarioAtual.getDireita(), chaves, esquerda, fim, dicionarios, profundidade + 1);
+    }
+
+    /**
+     * Método responsável por pesquisar o dicionário com a menor palavra maior ou igual a uma chave.
+     * 
+     * @param chave
+     *            Chave de comparação.
+     * 
+     * @return O dicionário encontrado, ou null caso todas as palavras sejam menores que a chave.
+     */
+    protected Dicionario pesquisarPrimeiroMaiorOuIgual(CollationKey chave) {
+        Dicionario dicionarioAtual = raiz, encontrado = null;
+
+        // As palavras maiores ficam à esquerda.
+        while (dicionarioAtual != null) {
+            if (dicionarioAtual.compararChave(chave) < 0) {
+                dicionarioAtual = dicionarioAtual.getEsquerda();
+            } else {
+                encontrado = dicionarioAtual;
+                dicionarioAtual = dicionarioAtual.getDireita();
+            }
+        }
+
+        return encontrado;
+    }
+
+    /**
+     * Método responsável por resgatar o dicionário com a próxima palavra em ordem alfabética, subindo pelos pais quando
+     * necessário.
+     * 
+     * @param dicionario
+     *            Dicionário atual.
+     * 
+     * @return O dicionário seguinte, ou null caso o dicionário atual possua a maior palavra.
+     */
+    protected Dicionario getSucessor(Dicionario dicionario) {
+        // As palavras maiores ficam à esquerda, logo a seguinte é a menor da subárvore da esquerda.
+        if (dicionario.getEsquerda() != null) {
+            Dicionario sucessor = dicionario.getEsquerda();
+
+            while (sucessor.getDireita() != null) {
+                sucessor = sucessor.getDireita();
+            }
+
+            return sucessor;
+        }
+
+        // Caso contrário, é o primeiro ancestral do qual o dicionário está na subárvore da direita.
+        while (dicionario.getPai() != null && dicionario.getPai().getEsquerda() == dicionario) {
+            dicionario = dicionario.getPai();
         }
 
-        // Ambos os dicionários são iguais, logo devemos unificar as definições.
-        if (resultadoDaComparacao == 0) {
-            dicionarioAtual.adicionarDefinicoes(novoDicionario.getDefinicoes());
+        return dicionario.getPai();
+    }
+
+    /**
+     * Método responsável por resgatar o dicionário com a palavra anterior em ordem alfabética, ou seja, o seguinte na
+     * ordem de {@link #getConteudo()}.
+     * 
+     * @param dicionario
+     *            Dicionário atual.
+     * 
+     * @return O dicionário anterior, ou null caso o dicionário atual possua a menor palavra.
+     */
+    protected Dicionario getAntecessor(Dicionario dicionario) {
+        // As palavras menores ficam à direita, logo a anterior é a maior da subárvore da direita.
+        if (dicionario.getDireita() != null) {
+            Dicionario antecessor = dicionario.getDireita();
+
+            while (antecessor.getEsquerda() != null) {
+                antecessor = antecessor.getEsquerda();
+            }
+
+            return antecessor;
+        }
+
+        // Caso contrário, é o primeiro ancestral do qual o dicionário está na subárvore da esquerda.
+        while (dicionario.getPai() != null && dicionario.getPai().getDireita() == dicionario) {
+            dicionario = dicionario.getPai();
+        }
+
+        return dicionario.getPai();
+    }
+
+    /**
+     * Método responsável por remover um dicionário (nodo) da árvore AVL. Se o dicionário possuir os dois filhos, ele é
+     * substituído pelo primeiro dicionário em ordem da sua subárvore da direita.
+     * 
+     * @param dicionario
+     *            Dicionário a ser removido.
+     */
+    protected void remover(Dicionario dicionario) {
+        Dicionario inicioDoBalanceamento, sucessor = null;
+
+        if (dicionario.getEsquerda() == null || dicionario.getDireita() == null) {
+            inicioDoBalanceamento = dicionario.getPai();
+
+            this.substituir(dicionario, dicionario.getEsquerda() != null ? dicionario.getEsquerda() : dicionario.getDireita());
+        } else {
+            sucessor = dicionario.getDireita();
+
+            while (sucessor.getEsquerda() != null) {
+                sucessor = sucessor.getEsquerda();
+            }
+
+            if (sucessor.getPai() != dicionario) {
+                inicioDoBalanceamento = sucessor.getPai();
+
+                this.substituir(sucessor, sucessor.getDireita());
+                sucessor.setDireita(dicionario.getDireita());
+                sucessor.getDireita().setPai(sucessor);
+            } else {
+                inicioDoBalanceamento = sucessor;
+            }
+
+            this.substituir(dicionario, sucessor);
+            sucessor.setEsquerda(dicionario.getEsquerda());
+            sucessor.getEsquerda().setPai(sucessor);
+        }
+
+        dicionario.setPai(null);
+        dicionario.setEsquerda(null);
+        dicionario.setDireita(null);
+        dicionario.atualizarAltura();
+        dicionario.atualizarTamanho();
+
+        if (inicioDoBalanceamento != null) {
+            // A altura guardada no sucessor é da sua posição anterior, logo o balanceamento não pode parar antes dele.
+            this.balancear(inicioDoBalanceamento, sucessor);
+        }
+    }
+
+    /**
+     * Método responsável por substituir um dicionário por outro na posição do seu pai.
+     * 
+     * @param dicionarioAtual
+     *            Dicionário a ser substituído.
+     * 
+     * @param novoDicionario
+     *            Dicionário que assume a posição. Pode ser null.
+     */
+    protected void substituir(Dicionario dicionarioAtual, Dicionario novoDicionario) {
+        final Dicionario pai = dicionarioAtual.getPai();
+
+        if (pai == null) {
+            this.raiz = novoDicionario;
+        } else if (pai.getEsquerda() == dicionarioAtual) {
+            pai.setEsquerda(novoDicionario);
+        } else {
+            pai.setDireita(novoDicionario);
+        }
+
+        if (novoDicionario != null) {
+            novoDicionario.setPai(pai);
         }
     }
 
@@ -144,41 +815,84 @@ public class ArvoreAvl implements Serializable {
      * 
      * @param dicionarioAtual
      *            Dicionário atual para balancear a árvore AVL.
+     * 
+     * @see #balancear(Dicionario, Dicionario)
      */
     protected void balancear(Dicionario dicionarioAtual) {
-        switch (dicionarioAtual.getBalanceamento()) {
-            // Se o balanceamento for igual a 2, indica que a árvore está desbalanceada.
-            case 2:
-                if (dicionarioAtual.getEsquerda().getBalanceamento() >= 0) {
-                    this.rotacionar(DIREITA, dicionarioAtual);
-                } else {
-                    this.rotacionar(DUPLA_DIREITA, dicionarioAtual);
-                }
+        this.balancear(dicionarioAtual, null);
+    }
 
-                break;
+    /**
+     * Método responsável por balancear a árvore AVL a partir do dicionário atual até a raiz, sem recursão. Quando a
+     * altura de uma subárvore deixa de mudar, as alturas dos ancestrais também não mudam; a partir daí somente os
+     * tamanhos das subárvores são atualizados.
+     * 
+     * @param dicionarioAtual
+     *            Dicionário atual para balancear a árvore AVL.
+     * 
+     * @param dicionarioMovido
+     *            Dicionário que mudou de posição e cuja altura guardada não corresponde à esperada pelo seu novo pai. O
+     *            balanceamento não para antes de passar por ele. Pode ser null.
+     */
+    protected void balancear(Dicionario dicionarioAtual, Dicionario dicionarioMovido) {
+        boolean podeParar = dicionarioMovido == null;
 
-            // Se o balanceamento for igual a -2, indica que a árvore está desbalanceada.
-            case -2:
-                if (dicionarioAtual.getDireita().getBalanceamento() <= 0) {
-                    this.rotacionar(ESQUERDA, dicionarioAtual);
-                } else {
-                    this.rotacionar(DUPLA_ESQUERDA, dicionarioAtual);
-                }
+        while (true) {
+            final int alturaAnterior = dicionarioAtual.getAltura();
+            final boolean foiMovido = dicionarioAtual == dicionarioMovido;
 
-                break;
+            dicionarioAtual.atualizarAltura();
+            dicionarioAtual.atualizarTamanho();
 
-            // Não faz nada.
-            default:
-                break;
-        }
+            switch (dicionarioAtual.getBalanceamento()) {
+                // Se o balanceamento for igual a 2, indica que a árvore está desbalanceada.
+                case 2:
+                    if (dicionarioAtual.getEsquerda().getBalanceamento() >= 0) {
+                        this.rotacionar(DIREITA, dicionarioAtual);
+                    } else {
+                        this.rotacionar(DUPLA_DIREITA, dicionarioAtual);
+                    }
 
-        // Se o dicionário atual não possuir pai, o dicionário atual passa a ser o pai.
-        if (dicionarioAtual.getPai() == null) {
-            this.raiz = dicionarioAtual;
-        }
-        // Se não, balanceia o dicionário pai do dicionário atual.
-        else {
-            this.balancear(dicionarioAtual.getPai());
+                    // O dicionário que assumiu a posição do dicionário atual é a nova raiz da subárvore.
+                    dicionarioAtual = dicionarioAtual.getPai();
+
+                    break;
+
+                // Se o balanceamento for igual a -2, indica que a árvore está desbalanceada.
+                case -2:
+                    if (dicionarioAtual.getDireita().getBalanceamento() <= 0) {
+                        this.rotacionar(ESQUERDA, dicionarioAtual);
+                    } else {
+                        this.rotacionar(DUPLA_ESQUERDA, dicionarioAtual);
+                    }
+
+                    dicionarioAtual = dicionarioAtual.getPai();
+
+                    break;
+
+                // Não faz nada.
+                default:
+                    break;
+            }
+
+            // Se o dicionário atual não possuir pai, o dicionário atual passa a ser a raiz.
+            if (dicionarioAtual.getPai() == null) {
+                this.raiz = dicionarioAtual;
+
+                return;
+            }
+
+            // A subárvore manteve a altura, logo os ancestrais continuam balanceados.
+            if (podeParar && dicionarioAtual.getAltura() == alturaAnterior) {
+                for (Dicionario ancestral = dicionarioAtual.getPai(); ancestral != null; ancestral = ancestral.getPai()) {
+                    ancestral.atualizarTamanho();
+                }
+
+                return;
+            }
+
+            podeParar = podeParar || foiMovido;
+            dicionarioAtual = dicionarioAtual.getPai();
         }
     }
 
@@ -207,6 +921,11 @@ public class ArvoreAvl implements Serializable {
                 direita.setEsquerda(dicionarioAtual);
                 dicionarioAtual.setPai(direita);
 
+                dicionarioAtual.atualizarAltura();
+                dicionarioAtual.atualizarTamanho();
+                direita.atualizarAltura();
+                direita.atualizarTamanho();
+
                 if (direita.getPai() != null) {
                     if (direita.getPai().getDireita() == dicionarioAtual) {
                         direita.getPai().setDireita(direita);
@@ -231,6 +950,11 @@ public class ArvoreAvl implements Serializable {
                 esquerda.setDireita(dicionarioAtual);
                 dicionarioAtual.setPai(esquerda);
 
+                dicionarioAtual.atualizarAltura();
+                dicionarioAtual.atualizarTamanho();
+                esquerda.atualizarAltura();
+                esquerda.atualizarTamanho();
+
                 if (esquerda.getPai() != null) {
                     if (esquerda.getPai().getDireita() == dicionarioAtual) {
                         esquerda.getPai().setDireita(esquerda);
@@ -243,14 +967,14 @@ public class ArvoreAvl implements Serializable {
 
             // Rotaciona a árvore duplamente para a esquerda.
             case DUPLA_ESQUERDA:
-                this.rotacionar(DIREITA, dicionarioAtual);
+                this.rotacionar(DIREITA, dicionarioAtual.getDireita());
                 this.rotacionar(ESQUERDA, dicionarioAtual);
 
                 break;
 
             // Rotaciona a árvore duplamente para a direita.
             case DUPLA_DIREITA:
-                this.rotacionar(ESQUERDA, dicionarioAtual);
+                this.rotacionar(ESQUERDA, dicionarioAtual.getEsquerda());
                 this.rotacionar(DIREITA, dicionarioAtual);
 
                 break;
@@ -271,13 +995,19 @@ public class ArvoreAvl implements Serializable {
      *            Lista onde será salvo os dicionários em ordem.
      */
     protected void percorrerEmOrdem(Dicionario raiz, List<Dicionario> listaDeDicionarios) {
-        if (raiz == null) {
-            return;
-        }
+        final ArrayDeque<Dicionario> pendentes = new ArrayDeque<>();
+        Dicionario dicionarioAtual = raiz;
 
-        this.percorrerEmOrdem(raiz.getEsquerda(), listaDeDicionarios);
-        listaDeDicionarios.add(raiz);
-        this.percorrerEmOrdem(raiz.getDireita(), listaDeDicionarios);
+        while (dicionarioAtual != null || !pendentes.isEmpty()) {
+            while (dicionarioAtual != null) {
+                pendentes.push(dicionarioAtual);
+                dicionarioAtual = dicionarioAtual.getEsquerda();
+            }
+
+            dicionarioAtual = pendentes.pop();
+            listaDeDicionarios.add(dicionarioAtual);
+            dicionarioAtual = dicionarioAtual.getDireita();
+        }
     }
 
     /**
@@ -287,7 +1017,203 @@ public class ArvoreAvl implements Serializable {
      */
     @Override
     public String toString() {
-        return "ArvoreAvl [raiz=" + raiz + "]";
+        return "ArvoreAvl [quantidade=" + this.getQuantidade() + ", raiz=" + raiz + "]";
+    }
+
+    /**
+     * Iterador que percorre a árvore a partir de um dicionário, seguindo os ponteiros para os pais.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    protected class IteradorEmOrdem implements Iterator<Dicionario> {
+
+        /**
+         * Se true, percorre em ordem alfabética. Caso contrário, na ordem de {@link ArvoreAvl#getConteudo()}.
+         */
+        private final boolean      crescente;
+
+        /**
+         * Chave da primeira palavra fora do percurso, ou null para percorrer até o fim da árvore.
+         */
+        private final CollationKey chaveFinal;
+
+        private Dicionario         proximo;
+
+        /**
+         * Construtor do iterador.
+         * 
+         * @param primeiro
+         *            Primeiro dicionário do percurso, ou null caso o percurso seja vazio.
+         * 
+         * @param crescente
+         *            Se true, percorre em ordem alfabética. Caso contrário, na ordem de {@link ArvoreAvl#getConteudo()}.
+         * 
+         * @param chaveFinal
+         *            Chave da primeira palavra fora do percurso (somente em ordem alfabética), ou null para percorrer até
+         *            o fim da árvore.
+         */
+        protected IteradorEmOrdem(Dicionario primeiro, boolean crescente, CollationKey chaveFinal) {
+            this.crescente = crescente;
+            this.chaveFinal = chaveFinal;
+            this.proximo = this.limitar(primeiro);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        public Dicionario next() {
+            final Dicionario atual = proximo;
+
+            if (atual == null) {
+                throw new NoSuchElementException();
+            }
+
+            proximo = this.limitar(crescente ? ArvoreAvl.this.getSucessor(atual) : ArvoreAvl.this.getAntecessor(atual));
+
+            return atual;
+        }
+
+        /**
+         * Método responsável por encerrar o percurso ao alcançar a chave final.
+         * 
+         * @param dicionario
+         *            Próximo dicionário do percurso.
+         * 
+         * @return O dicionário, ou null caso esteja fora do percurso.
+         */
+        private Dicionario limitar(Dicionario dicionario) {
+            return dicionario == null || chaveFinal == null || dicionario.compararChave(chaveFinal) < 0 ? dicionario : null;
+        }
+
+    }
+
+    /**
+     * Divisor do percurso em ordem da árvore. Mantém uma pilha de dicionários pendentes, em que cada dicionário
+     * representa a si mesmo seguido da sua subárvore da direita. O topo da pilha é o próximo dicionário do percurso, e a
+     * base é a maior parte pendente, que é separada nas divisões.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    protected static class DivisorEmOrdem implements Spliterator<Dicionario> {
+
+        /**
+         * Características do percurso.
+         */
+        private static final int             CARACTERISTICAS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED
+                | Spliterator.SUBSIZED;
+
+        /**
+         * Dicionários pendentes, seguidos das suas subárvores da direita. O primeiro é o próximo do percurso.
+         */
+        private final ArrayDeque<Dicionario> pendentes       = new ArrayDeque<>();
+
+        /**
+         * Construtor do divisor de uma subárvore completa.
+         * 
+         * @param raiz
+         *            Raiz da subárvore, ou null caso seja vazia.
+         */
+        protected DivisorEmOrdem(Dicionario raiz) {
+            this.empilhar(raiz);
+        }
+
+        /**
+         * Construtor do divisor de uma parte já separada.
+         * 
+         * @param pendentes
+         *            Dicionários pendentes, com o próximo do percurso primeiro.
+         */
+        private DivisorEmOrdem(ArrayDeque<Dicionario> pendentes) {
+            this.pendentes.addAll(pendentes);
+        }
+
+        /**
+         * Método responsável por empilhar um dicionário e os seus descendentes à esquerda, que vêm antes dele no percurso.
+         * 
+         * @param dicionario
+         *            Dicionário desejado, ou null.
+         */
+        private void empilhar(Dicionario dicionario) {
+            while (dicionario != null) {
+                pendentes.push(dicionario);
+                dicionario = dicionario.getEsquerda();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Dicionario> acao) {
+            final Dicionario atual = pendentes.poll();
+
+            if (atual == null) {
+                return false;
+            }
+
+            this.empilhar(atual.getDireita());
+            acao.accept(atual);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Dicionario> acao) {
+            for (Dicionario atual = pendentes.poll(); atual != null; atual = pendentes.poll()) {
+                this.empilhar(atual.getDireita());
+                acao.accept(atual);
+            }
+        }
+
+        @Override
+        public Spliterator<Dicionario> trySplit() {
+            if (pendentes.size() > 1) {
+                // Todos os pendentes, exceto a base, vêm antes da base no percurso.
+                final Dicionario base = pendentes.pollLast();
+                final DivisorEmOrdem anteriores = new DivisorEmOrdem(pendentes);
+
+                pendentes.clear();
+                pendentes.push(base);
+
+                return anteriores;
+            }
+
+            final Dicionario unico = pendentes.peek();
+
+            if (unico == null || unico.getDireita() == null) {
+                return null;
+            }
+
+            // Um único pendente é separado da sua subárvore da direita, que passa a ser percorrida por este divisor.
+            pendentes.clear();
+            this.empilhar(unico.getDireita());
+
+            return Spliterators.spliterator(new Object[] { unico }, CARACTERISTICAS);
+        }
+
+        /**
+         * Método responsável por calcular a quantidade exata de dicionários pendentes pelo tamanho das subárvores.
+         * 
+         * @return A quantidade de dicionários pendentes.
+         */
+        @Override
+        public long estimateSize() {
+            long quantidade = 0;
+
+            for (Dicionario pendente : pendentes) {
+                quantidade += 1L + Dicionario.Utils.getTamanho(pendente.getDireita());
+            }
+
+            return quantidade;
+        }
+
+        @Override
+        public int characteristics() {
+            return CARACTERISTICAS;
+        }
+
     }
 
 }
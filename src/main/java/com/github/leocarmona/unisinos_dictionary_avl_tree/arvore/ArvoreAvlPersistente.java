@@ -0,0 +1,234 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.arvore;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.DicionarioImutavel;
+
+/**
+ * Variante persistente da {@link ArvoreAvl}. Cada adição cria uma nova raiz copiando somente o caminho alterado e
+ * compartilhando todos os demais {@link DicionarioImutavel dicionários} com a versão anterior.
+ * <p>
+ * As leituras não utilizam travas: basta ler a raiz atual (uma versão) e pesquisar ou percorrer essa versão, que nunca
+ * será alterada. As escritas são serializadas entre si, sem bloquear as leituras.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see ArvoreAvl
+ * @see DicionarioImutavel
+ */
+public class ArvoreAvlPersistente {
+
+    /**
+     * Versão atual da árvore.
+     */
+    private volatile DicionarioImutavel raiz;
+
+    /**
+     * Método responsável por adicionar um novo dicionário na árvore, publicando uma nova versão.
+     * 
+     * @param dicionario
+     *            Novo dicionário a ser adicionado na árvore.
+     * 
+     * @return A raiz da nova versão da árvore.
+     */
+    public synchronized DicionarioImutavel adicionar(Dicionario dicionario) {
+        return this.raiz = ArvoreAvlPersistente.adicionar(this.raiz, new DicionarioImutavel(dicionario));
+    }
+
+    /**
+     * Método responsável por resgatar a versão atual da árvore. A versão retornada nunca é alterada.
+     * 
+     * @return A raiz da versão atual da árvore, ou null se a árvore estiver vazia.
+     */
+    public DicionarioImutavel getVersao() {
+        return raiz;
+    }
+
+    /**
+     * Método responsável por pesquisar um dicionário pela palavra na versão atual da árvore.
+     * 
+     * @param palavra
+     *            Palavra a ser pesquisada.
+     * 
+     * @return O dicionário da palavra, ou null caso a palavra não exista.
+     */
+    public DicionarioImutavel pesquisarDicionarioPelaPalavra(String palavra) {
+        return ArvoreAvlPersistente.pesquisarDicionarioPelaPalavra(raiz, palavra);
+    }
+
+    /**
+     * Método responsável por resgatar o conteúdo da versão atual da árvore em ordem.
+     * 
+     * @return Todo o conteúdo da versão atual da árvore em ordem.
+     */
+    public List<DicionarioImutavel> getConteudo() {
+        return ArvoreAvlPersistente.getConteudo(raiz);
+    }
+
+    /**
+     * Método responsável por pesquisar um dicionário pela palavra em uma versão da árvore.
+     * 
+     * @param versao
+     *            Raiz da versão desejada.
+     * 
+     * @param palavra
+     *            Palavra a ser pesquisada.
+     * 
+     * @return O dicionário da palavra, ou null caso a palavra não exista.
+     */
+    public static DicionarioImutavel pesquisarDicionarioPelaPalavra(DicionarioImutavel versao, String palavra) {
+        final CollationKey chave = Dicionario.Utils.gerarChave(palavra);
+        DicionarioImutavel dicionario = versao;
+
+        while (dicionario != null) {
+            final int resultadoDaComparacao = dicionario.compararChave(chave);
+
+            if (resultadoDaComparacao < 0) {
+                dicionario = dicionario.getEsquerda();
+            } else if (resultadoDaComparacao > 0) {
+                dicionario = dicionario.getDireita();
+            } else {
+                return dicionario;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Método responsável por resgatar o conteúdo de uma versão da árvore em ordem.
+     * 
+     * @param versao
+     *            Raiz da versão desejada.
+     * 
+     * @return Todo o conteúdo da versão em ordem.
+     */
+    public static List<DicionarioImutavel> getConteudo(DicionarioImutavel versao) {
+        List<DicionarioImutavel> listaDeDicionarios = new ArrayList<>();
+
+        ArvoreAvlPersistente.percorrerEmOrdem(versao, listaDeDicionarios);
+
+        return listaDeDicionarios;
+    }
+
+    /**
+     * Método responsável por adicionar um novo dicionário em uma versão, copiando somente o caminho até a posição do novo
+     * dicionário.
+     * 
+     * @param atual
+     *            Dicionário atual da versão.
+     * 
+     * @param novoDicionario
+     *            Novo dicionário a ser adicionado.
+     * 
+     * @return O dicionário que substitui o dicionário atual na nova versão.
+     */
+    protected static DicionarioImutavel adicionar(DicionarioImutavel atual, DicionarioImutavel novoDicionario) {
+        if (atual == null) {
+            return novoDicionario;
+        }
+
+        final int resultadoDaComparacao = atual.compararChave(novoDicionario.getChave());
+
+        if (resultadoDaComparacao < 0) {
+            return ArvoreAvlPersistente.balancear(atual.comFilhos(adicionar(atual.getEsquerda(), novoDicionario), atual.getDireita()));
+        }
+
+        if (resultadoDaComparacao > 0) {
+            return ArvoreAvlPersistente.balancear(atual.comFilhos(atual.getEsquerda(), adicionar(atual.getDireita(), novoDicionario)));
+        }
+
+        // Ambos os dicionários são iguais, logo devemos unificar as definições.
+        return atual.comDefinicoes(novoDicionario.getDefinicoes());
+    }
+
+    /**
+     * Método responsável por balancear um dicionário recém copiado.
+     * 
+     * @param dicionario
+     *            Dicionário a ser balanceado.
+     * 
+     * @return O dicionário que substitui o dicionário balanceado.
+     */
+    protected static DicionarioImutavel balancear(DicionarioImutavel dicionario) {
+        switch (dicionario.getBalanceamento()) {
+            case 2:
+                if (dicionario.getEsquerda().getBalanceamento() < 0) {
+                    dicionario = dicionario.comFilhos(rotacionarEsquerda(dicionario.getEsquerda()), dicionario.getDireita());
+                }
+
+                return ArvoreAvlPersistente.rotacionarDireita(dicionario);
+
+            case -2:
+                if (dicionario.getDireita().getBalanceamento() > 0) {
+                    dicionario = dicionario.comFilhos(dicionario.getEsquerda(), rotacionarDireita(dicionario.getDireita()));
+                }
+
+                return ArvoreAvlPersistente.rotacionarEsquerda(dicionario);
+
+            default:
+                return dicionario;
+        }
+    }
+
+    /**
+     * Método responsável por rotacionar um dicionário para a esquerda.
+     * 
+     * @param dicionario
+     *            Dicionário a ser rotacionado.
+     * 
+     * @return O dicionário que substitui o dicionário rotacionado.
+     */
+    protected static DicionarioImutavel rotacionarEsquerda(DicionarioImutavel dicionario) {
+        DicionarioImutavel direita = dicionario.getDireita();
+
+        return direita.comFilhos(dicionario.comFilhos(dicionario.getEsquerda(), direita.getEsquerda()), direita.getDireita());
+    }
+
+    /**
+     * Método responsável por rotacionar um dicionário para a direita.
+     * 
+     * @param dicionario
+     *            Dicionário a ser rotacionado.
+     * 
+     * @return O dicionário que substitui o dicionário rotacionado.
+     */
+    protected static DicionarioImutavel rotacionarDireita(DicionarioImutavel dicionario) {
+        DicionarioImutavel esquerda = dicionario.getEsquerda();
+
+        return esquerda.comFilhos(esquerda.getEsquerda(), dicionario.comFilhos(esquerda.getDireita(), dicionario.getDireita()));
+    }
+
+    /**
+     * Método responsável por percorrer uma versão em ordem resgatando todos os dicionários dentro da lista desejada.
+     * 
+     * @param raiz
+     *            Raiz desejada a ser percorrida em ordem.
+     * 
+     * @param listaDeDicionarios
+     *            Lista onde será salvo os dicionários em ordem.
+     */
+    protected static void percorrerEmOrdem(DicionarioImutavel raiz, List<DicionarioImutavel> listaDeDicionarios) {
+        if (raiz == null) {
+            return;
+        }
+
+        ArvoreAvlPersistente.percorrerEmOrdem(raiz.getEsquerda(), listaDeDicionarios);
+        listaDeDicionarios.add(raiz);
+        ArvoreAvlPersistente.percorrerEmOrdem(raiz.getDireita(), listaDeDicionarios);
+    }
+
+    /**
+     * Método responsável por representar a árvore AVL persistente.
+     * 
+     * @return A representação da árvore AVL persistente.
+     */
+    @Override
+    public String toString() {
+        return "ArvoreAvlPersistente [raiz=" + raiz + "]";
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe responsável por separar as linhas do arquivo de dicionário na palavra e nas suas definições.
+ * <p>
+ * Formato de uma linha:
+ * 
+ * <pre>
+ * &lt;palavra_ingles&gt;palavra&lt;traducao1&gt;definição 1&lt;traducao2&gt;definição 2...
+ * </pre>
+ * 
+ * A linha é percorrida uma única vez, do início ao fim, sem criar os marcadores de cada tradução. As linhas irregulares,
+ * com marcadores repetidos ou fora de ordem, são separadas pelo {@link Tradutor.Utils#getPalavraEntre(String, String,
+ * String)}, como antes, para que o resultado seja sempre o mesmo.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see Tradutor#lerLinhaDoArquivo(String)
+ */
+public class AnalisadorDeLinha {
+
+    /**
+     * Marcador da palavra em inglês.
+     */
+    public static final String  MARCADOR_DA_PALAVRA            = "<palavra_ingles>";
+
+    /**
+     * Início do marcador de cada tradução, seguido do número da tradução e de "&gt;".
+     */
+    public static final String  INICIO_DO_MARCADOR_DA_TRADUCAO = "<traducao";
+
+    /**
+     * Quantidade máxima de dígitos do número de uma tradução tratada pela separação em uma passagem.
+     */
+    private static final int    MAXIMO_DE_DIGITOS              = 9;
+
+    /**
+     * Indica que o marcador encontrado não é o esperado, tornando a linha irregular.
+     */
+    private static final int    MARCADOR_INESPERADO            = -2;
+
+    /**
+     * Indica que não há um marcador na posição.
+     */
+    private static final int    SEM_MARCADOR                   = -1;
+
+    /**
+     * Construtor privado, pois a classe possui somente métodos estáticos.
+     */
+    private AnalisadorDeLinha() {
+    }
+
+    /**
+     * Método responsável por separar uma linha do arquivo de dicionário.
+     * 
+     * @param linha
+     *            Linha do arquivo.
+     * 
+     * @return O dicionário da linha, ou null caso a linha não possua o marcador da palavra.
+     */
+    public static Dicionario analisar(CharSequence linha) {
+        final int tamanho = linha.length();
+        int inicioDoCampo = -1, i = 0;
+
+        // Procura o marcador da palavra. Um marcador de tradução antes dele torna a linha irregular.
+        for (; i < tamanho; i++) {
+            if (linha.charAt(i) != '<') {
+                continue;
+            }
+
+            if (AnalisadorDeLinha.comecaCom(linha, i, MARCADOR_DA_PALAVRA)) {
+                inicioDoCampo = i + MARCADOR_DA_PALAVRA.length();
+                break;
+            }
+
+            if (AnalisadorDeLinha.getFimDoMarcadorDaTraducao(linha, i, 0) != SEM_MARCADOR) {
+                return AnalisadorDeLinha.analisarLinhaIrregular(linha.toString());
+            }
+        }
+
+        if (inicioDoCampo < 0) {
+            return null;
+        }
+
+        final List<String> definicoes = new ArrayList<>();
+        String palavra = null;
+        int proximaTraducao = 1;
+
+        for (i = inicioDoCampo; i < tamanho; i++) {
+            if (linha.charAt(i) != '<') {
+                continue;
+            }
+
+            if (AnalisadorDeLinha.comecaCom(linha, i, MARCADOR_DA_PALAVRA)) {
+                return AnalisadorDeLinha.analisarLinhaIrregular(linha.toString());
+            }
+
+            final int fimDoMarcador = AnalisadorDeLinha.getFimDoMarcadorDaTraducao(linha, i, proximaTraducao);
+
+            if (fimDoMarcador == MARCADOR_INESPERADO) {
+                return AnalisadorDeLinha.analisarLinhaIrregular(linha.toString());
+            }
+
+            if (fimDoMarcador != SEM_MARCADOR) {
+                final String campo = linha.subSequence(inicioDoCampo, i).toString();
+
+                if (palavra == null) {
+                    palavra = campo;
+                } else {
+                    definicoes.add(campo);
+                }
+
+                proximaTraducao++;
+                inicioDoCampo = fimDoMarcador;
+                i = fimDoMarcador - 1;
+            }
+        }
+
+        final String ultimoCampo = linha.subSequence(inicioDoCampo, tamanho).toString();
+
+        if (palavra == null) {
+            palavra = ultimoCampo;
+        } else {
+            definicoes.add(ultimoCampo);
+        }
+
+        return new Dicionario(palavra, definicoes);
+    }
+
+    /**
+     * Método responsável por separar uma linha irregular, procurando cada marcador em toda a linha.
+     * 
+     * @param linha
+     *            Linha do arquivo.
+     * 
+     * @return O dicionário da linha, ou null caso a linha não possua o marcador da palavra.
+     */
+    protected static Dicionario analisarLinhaIrregular(String linha) {
+        String palavra = Tradutor.Utils.getPalavraEntre(linha, MARCADOR_DA_PALAVRA, "<traducao1>"), traducao, palavraInicio, palavraFim;
+        List<String> definicoes;
+        int traducaoAtual;
+
+        if (palavra == null) {
+            return null;
+        }
+
+        definicoes = new ArrayList<>();
+        palavraInicio = "<traducao1>";
+        palavraFim = "<traducao2>";
+        traducaoAtual = 2;
+
+        while ((traducao = Tradutor.Utils.getPalavraEntre(linha, palavraInicio, palavraFim)) != null) {
+            definicoes.add(traducao);
+
+            palavraInicio = INICIO_DO_MARCADOR_DA_TRADUCAO + (traducaoAtual++) + ">";
+            palavraFim = INICIO_DO_MARCADOR_DA_TRADUCAO + traducaoAtual + ">";
+        }
+
+        return new Dicionario(palavra, definicoes);
+    }
+
+    /**
+     * Método responsável por reconhecer um marcador de tradução em uma posição da linha. Um número com zeros à esquerda
+     * nunca corresponde a um marcador, sendo parte do texto.
+     * 
+     * @param linha
+     *            Linha do arquivo.
+     * 
+     * @param inicio
+     *            Posição do "&lt;".
+     * 
+     * @param traducaoEsperada
+     *            Número da tradução esperada nesta posição.
+     * 
+     * @return A posição seguinte ao marcador, caso seja o da tradução esperada; {@link #MARCADOR_INESPERADO}, caso seja
+     *         o marcador de outra tradução; ou {@link #SEM_MARCADOR}, caso não seja um marcador de tradução.
+     */
+    private static int getFimDoMarcadorDaTraducao(CharSequence linha, int inicio, int traducaoEsperada) {
+        if (!AnalisadorDeLinha.comecaCom(linha, inicio, INICIO_DO_MARCADOR_DA_TRADUCAO)) {
+            return SEM_MARCADOR;
+        }
+
+        final int inicioDoNumero = inicio + INICIO_DO_MARCADOR_DA_TRADUCAO.length();
+        int i = inicioDoNumero, numero = 0;
+
+        while (i < linha.length() && linha.charAt(i) >= '0' && linha.charAt(i) <= '9') {
+            if (i - inicioDoNumero == MAXIMO_DE_DIGITOS) {
+                return MARCADOR_INESPERADO;
+            }
+
+            numero = numero * 10 + (linha.charAt(i++) - '0');
+        }
+
+        if (i == inicioDoNumero || i == linha.length() || linha.charAt(i) != '>' || linha.charAt(inicioDoNumero) == '0') {
+            return SEM_MARCADOR;
+        }
+
+        return numero == traducaoEsperada ? i + 1 : MARCADOR_INESPERADO;
+    }
+
+    /**
+     * Método responsável por verificar se a linha possui um texto a partir de uma posição.
+     * 
+     * @param linha
+     *            Linha do arquivo.
+     * 
+     * @param inicio
+     *            Posição inicial.
+     * 
+     * @param texto
+     *            Texto procurado.
+     * 
+     * @return True se a linha possuir o texto na posição. Caso contrário, false.
+     */
+    private static boolean comecaCom(CharSequence linha, int inicio, String texto) {
+        if (inicio + texto.length() > linha.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < texto.length(); i++) {
+            if (linha.charAt(inicio + i) != texto.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
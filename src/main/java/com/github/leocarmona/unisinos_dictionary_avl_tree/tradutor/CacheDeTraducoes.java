@@ -0,0 +1,446 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.text.CollationKey;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache limitado das traduções respondidas pelo {@link Tradutor}, indexado pela palavra exatamente como foi pesquisada.
+ * Assim, uma palavra encontrada no cache não precisa nem gerar a sua chave de comparação. As palavras sem tradução
+ * também são guardadas.
+ * <p>
+ * As pesquisas não bloqueiam: somente marcam a entrada como utilizada. A remoção segue o algoritmo do relógio (CLOCK),
+ * uma aproximação do LRU: ao atingir a capacidade, as entradas são percorridas na ordem de inserção, e a primeira que
+ * não foi utilizada desde a última passagem é removida. As entradas utilizadas recebem uma segunda chance.
+ * <p>
+ * As falhas também não bloqueiam: a tradução a ser guardada é colocada em um anel de admissões, sem trava, e as
+ * admissões pendentes são aplicadas pela thread que obtiver a trava de manutenção, sem esperar por ela. Caso o anel
+ * esteja cheio, a tradução simplesmente não é guardada. As entradas descartadas são retiradas da fila do relógio nas
+ * invalidações, fora do caminho das falhas.
+ * <p>
+ * Todas as grafias de uma palavra (por exemplo, "Be" e "be") compartilham a mesma chave de comparação e são invalidadas
+ * juntas.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class CacheDeTraducoes {
+
+    /**
+     * Quantidade máxima de admissões pendentes. Deve ser uma potência de 2.
+     */
+    private static final int                       ADMISSOES_PENDENTES = 256;
+
+    /**
+     * Quantidade máxima de entradas do cache.
+     */
+    private final int                              capacidade;
+
+    /**
+     * Entradas do cache pela palavra pesquisada. Lido sem bloqueio.
+     */
+    private final Map<String, Entrada>             entradas            = new ConcurrentHashMap<>();
+
+    /**
+     * Entradas do cache pela chave de comparação, utilizado na invalidação. Protegido pela trava de manutenção.
+     */
+    private final Map<CollationKey, List<Entrada>> porChave            = new HashMap<>();
+
+    /**
+     * Fila circular do algoritmo do relógio. Protegida pela trava de manutenção.
+     */
+    private final ArrayDeque<Entrada>              relogio             = new ArrayDeque<>();
+
+    /**
+     * Anel das entradas a serem admitidas, preenchido sem bloqueio pelas threads que não encontraram a palavra no cache.
+     */
+    private final AtomicReferenceArray<Entrada>    admissoes           = new AtomicReferenceArray<>(ADMISSOES_PENDENTES);
+
+    /**
+     * Posição da próxima admissão a ser reservada no anel.
+     */
+    private final AtomicLong                       caudaDasAdmissoes   = new AtomicLong();
+
+    /**
+     * Posição da próxima admissão a ser aplicada. Escrita somente com a trava de manutenção.
+     */
+    private volatile long                          cabecaDasAdmissoes;
+
+    /**
+     * Trava das estruturas de remoção e invalidação. Nunca é aguardada nas falhas.
+     */
+    private final ReentrantLock                    manutencao          = new ReentrantLock();
+
+    /**
+     * Incrementada antes de cada invalidação. Uma tradução pesquisada antes de uma invalidação não é guardada, pois pode
+     * estar desatualizada.
+     */
+    private final AtomicLong                       geracao             = new AtomicLong();
+
+    private final LongAdder                        acertos             = new LongAdder();
+
+    private final LongAdder                        falhas              = new LongAdder();
+
+    private final LongAdder                        remocoes            = new LongAdder();
+
+    /**
+     * Quantidade de entradas válidas. Escrita somente com a trava de manutenção.
+     */
+    private volatile int                           quantidade;
+
+    /**
+     * Construtor do cache.
+     * 
+     * @param capacidade
+     *            Quantidade máxima de palavras guardadas.
+     */
+    public CacheDeTraducoes(int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva: " + capacidade);
+        }
+
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Método responsável por pesquisar as traduções de uma palavra no cache, sem bloquear.
+     * 
+     * @param palavra
+     *            Palavra pesquisada.
+     * 
+     * @return As traduções guardadas, ou null caso a palavra não esteja no cache.
+     */
+    public List<String> pesquisar(String palavra) {
+        final Entrada entrada = entradas.get(palavra);
+
+        if (entrada == null) {
+            falhas.increment();
+
+            return null;
+        }
+
+        // Evita escrever na memória compartilhada quando a entrada já está marcada.
+        if (!entrada.utilizada) {
+            entrada.utilizada = true;
+        }
+
+        acertos.increment();
+
+        return entrada.definicoes;
+    }
+
+    /**
+     * @return A geração atual do cache, a ser lida antes de pesquisar uma tradução que será guardada.
+     */
+    public long getGeracao() {
+        return geracao.get();
+    }
+
+    /**
+     * Método responsável por guardar as traduções de uma palavra, sem bloquear. As traduções não são guardadas caso
+     * alguma invalidação tenha ocorrido desde a geração informada.
+     * 
+     * @param palavra
+     *            Palavra pesquisada.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra.
+     * 
+     * @param definicoes
+     *            Traduções da palavra, em uma lista não modificável.
+     * 
+     * @param geracaoDaPesquisa
+     *            Geração do cache lida antes da pesquisa das traduções.
+     */
+    public void adicionar(String palavra, CollationKey chave, List<String> definicoes, long geracaoDaPesquisa) {
+        if (geracao.get() != geracaoDaPesquisa || entradas.containsKey(palavra)) {
+            return;
+        }
+
+        final Entrada entrada = new Entrada(palavra, chave, definicoes, geracaoDaPesquisa);
+        final boolean enfileirada = this.enfileirar(entrada);
+
+        if (!manutencao.tryLock()) {
+            return;
+        }
+
+        try {
+            this.aplicarAdmissoes();
+
+            if (!enfileirada) {
+                this.admitir(entrada);
+            }
+        } finally {
+            manutencao.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por reservar uma posição no anel de admissões e publicar a entrada nela.
+     * 
+     * @param entrada
+     *            Entrada a ser admitida.
+     * 
+     * @return Se true, a entrada foi colocada no anel. Caso contrário, o anel está cheio.
+     */
+    private boolean enfileirar(Entrada entrada) {
+        while (true) {
+            final long cauda = caudaDasAdmissoes.get();
+
+            if (cauda - cabecaDasAdmissoes >= ADMISSOES_PENDENTES) {
+                return false;
+            }
+
+            if (caudaDasAdmissoes.compareAndSet(cauda, cauda + 1)) {
+                admissoes.lazySet((int) cauda & (ADMISSOES_PENDENTES - 1), entrada);
+
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por aplicar as admissões pendentes, na ordem em que foram reservadas. Uma posição reservada
+     * cuja entrada ainda não foi publicada interrompe a aplicação, que continua na próxima manutenção. Deve ser chamado
+     * com a trava de manutenção.
+     */
+    private void aplicarAdmissoes() {
+        long cabeca = cabecaDasAdmissoes;
+
+        while (cabeca < caudaDasAdmissoes.get()) {
+            final int posicao = (int) cabeca & (ADMISSOES_PENDENTES - 1);
+            final Entrada entrada = admissoes.get(posicao);
+
+            if (entrada == null) {
+                return;
+            }
+
+            admissoes.lazySet(posicao, null);
+            cabecaDasAdmissoes = ++cabeca;
+
+            this.admitir(entrada);
+        }
+    }
+
+    /**
+     * Método responsável por colocar uma entrada no cache, removendo as entradas necessárias segundo o algoritmo do
+     * relógio. Deve ser chamado com a trava de manutenção.
+     * 
+     * @param entrada
+     *            Entrada a ser admitida.
+     */
+    private void admitir(Entrada entrada) {
+        if (geracao.get() != entrada.geracaoDaPesquisa || entradas.containsKey(entrada.palavra)) {
+            return;
+        }
+
+        while (quantidade >= capacidade) {
+            this.removerProxima();
+        }
+
+        entradas.put(entrada.palavra, entrada);
+        porChave.computeIfAbsent(entrada.chave, k -> new ArrayList<>(1)).add(entrada);
+        relogio.addLast(entrada);
+        quantidade++;
+    }
+
+    /**
+     * Método responsável por invalidar todas as grafias de uma palavra.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra alterada.
+     */
+    public void invalidar(CollationKey chave) {
+        manutencao.lock();
+
+        try {
+            geracao.incrementAndGet();
+
+            // As admissões pendentes são anteriores à invalidação e, portanto, são ignoradas.
+            this.aplicarAdmissoes();
+
+            final List<Entrada> invalidadas = porChave.remove(chave);
+
+            if (invalidadas != null) {
+                for (Entrada entrada : invalidadas) {
+                    this.descartar(entrada);
+                }
+            }
+
+            // Evita que a fila acumule entradas descartadas quando há muitas invalidações.
+            if (relogio.size() > 2 * capacidade) {
+                relogio.removeIf(e -> e.descartada);
+            }
+        } finally {
+            manutencao.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por invalidar todas as palavras do cache.
+     */
+    public void limpar() {
+        manutencao.lock();
+
+        try {
+            geracao.incrementAndGet();
+
+            this.aplicarAdmissoes();
+
+            entradas.clear();
+            porChave.clear();
+            relogio.clear();
+            quantidade = 0;
+        } finally {
+            manutencao.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por remover a próxima entrada não utilizada, segundo o algoritmo do relógio. Deve ser chamado
+     * com a trava de manutenção.
+     */
+    private void removerProxima() {
+        while (true) {
+            final Entrada entrada = relogio.pollFirst();
+
+            if (entrada.descartada) {
+                continue;
+            }
+
+            if (entrada.utilizada) {
+                entrada.utilizada = false;
+                relogio.addLast(entrada);
+                continue;
+            }
+
+            final List<Entrada> grafias = porChave.get(entrada.chave);
+
+            grafias.remove(entrada);
+
+            if (grafias.isEmpty()) {
+                porChave.remove(entrada.chave);
+            }
+
+            this.descartar(entrada);
+            remocoes.increment();
+
+            return;
+        }
+    }
+
+    /**
+     * Método responsável por descartar uma entrada. A entrada é retirada da fila do relógio quando for alcançada, ou na
+     * compactação feita pela invalidação. Deve ser chamado com a trava de manutenção.
+     * 
+     * @param entrada
+     *            Entrada a ser descartada.
+     */
+    private void descartar(Entrada entrada) {
+        entradas.remove(entrada.palavra, entrada);
+        entrada.descartada = true;
+        quantidade--;
+    }
+
+    /**
+     * @return A capacidade do cache.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * @return A quantidade de palavras guardadas.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * @return A quantidade de pesquisas respondidas pelo cache.
+     */
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    /**
+     * @return A quantidade de pesquisas não respondidas pelo cache.
+     */
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    /**
+     * @return A quantidade de palavras removidas por falta de espaço.
+     */
+    public long getRemocoes() {
+        return remocoes.sum();
+    }
+
+    /**
+     * @return A proporção de pesquisas respondidas pelo cache, entre 0 e 1.
+     */
+    public double getTaxaDeAcertos() {
+        final long acertos = this.getAcertos(), total = acertos + this.getFalhas();
+
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+
+    /**
+     * Método responsável por representar o cache.
+     * 
+     * @return A representação do cache.
+     */
+    @Override
+    public String toString() {
+        return "CacheDeTraducoes [capacidade=" + capacidade + ", quantidade=" + getQuantidade() + ", acertos=" + getAcertos() + ", falhas=" + getFalhas()
+                + ", remocoes=" + getRemocoes() + "]";
+    }
+
+    /**
+     * Entrada do cache.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    private static class Entrada {
+
+        private final String       palavra;
+
+        private final CollationKey chave;
+
+        private final List<String> definicoes;
+
+        /**
+         * Se true, a entrada foi pesquisada desde a última passagem do relógio. Caso contrário, false.
+         */
+        private volatile boolean   utilizada;
+
+        /**
+         * Geração do cache lida antes da pesquisa das traduções.
+         */
+        private final long         geracaoDaPesquisa;
+
+        /**
+         * Se true, a entrada foi removida do cache. Protegido pela trava de manutenção.
+         */
+        private boolean            descartada;
+
+        private Entrada(String palavra, CollationKey chave, List<String> definicoes, long geracaoDaPesquisa) {
+            this.palavra = palavra;
+            this.chave = chave;
+            this.definicoes = definicoes;
+            this.geracaoDaPesquisa = geracaoDaPesquisa;
+        }
+
+    }
+
+}
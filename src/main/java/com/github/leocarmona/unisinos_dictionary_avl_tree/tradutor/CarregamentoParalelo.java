@@ -0,0 +1,315 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
+
+/**
+ * Classe responsável por carregar vários arquivos de dicionário, ou pedaços de um arquivo grande, em paralelo.
+ * <p>
+ * Os arquivos são divididos em pedaços de bytes, que começam e terminam em quebras de linha. Cada pedaço é lido e
+ * ordenado por uma tarefa do {@link ForkJoinPool}, formando uma sequência ordenada; as sequências são intercaladas duas a
+ * duas, também em paralelo, unificando as definições das palavras repetidas na ordem dos arquivos. O resultado é o mesmo
+ * de carregar os arquivos um após o outro, linha a linha.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see Tradutor#carregaDicionarios(ForkJoinPool, String...)
+ */
+public class CarregamentoParalelo {
+
+    /**
+     * Tamanho mínimo de um pedaço, em bytes. Pedaços menores não compensam o custo de uma tarefa.
+     */
+    protected static final int TAMANHO_MINIMO_DO_PEDACO = 1024 * 1024;
+
+    /**
+     * Tamanho máximo de um pedaço, em bytes, limitando a memória utilizada por tarefa.
+     */
+    protected static final int TAMANHO_MAXIMO_DO_PEDACO = 64 * 1024 * 1024;
+
+    /**
+     * Quantidade de pedaços por thread, para equilibrar a carga entre as threads.
+     */
+    protected static final int PEDACOS_POR_THREAD       = 4;
+
+    /**
+     * Tamanho do buffer utilizado na procura das quebras de linha.
+     */
+    private static final int   TAMANHO_DO_BUFFER        = 8 * 1024;
+
+    private final ForkJoinPool executor;
+
+    /**
+     * Quantidade de linhas sem uma palavra em inglês.
+     */
+    private final LongAdder    linhasInvalidas          = new LongAdder();
+
+    /**
+     * Construtor do carregamento paralelo.
+     * 
+     * @param executor
+     *            Executor das tarefas de leitura e de intercalação.
+     */
+    public CarregamentoParalelo(ForkJoinPool executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Método responsável por carregar os dicionários de vários arquivos.
+     * 
+     * @param arquivos
+     *            Arquivos de dicionário, no formato de {@link AnalisadorDeLinha}, codificados em UTF-8.
+     * 
+     * @return Os dicionários dos arquivos, na ordem de {@link ArvoreAvl#getConteudo()} e sem palavras repetidas.
+     * 
+     * @throws IOException
+     *             Caso não seja possível ler algum dos arquivos.
+     */
+    public List<Dicionario> carregar(List<File> arquivos) throws IOException {
+        final List<Pedaco> pedacos = this.dividir(arquivos);
+
+        if (pedacos.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return executor.invoke(new Tarefa(pedacos, 0, pedacos.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return A quantidade de linhas sem uma palavra em inglês encontradas até o momento.
+     */
+    public long getLinhasInvalidas() {
+        return linhasInvalidas.sum();
+    }
+
+    /**
+     * Método responsável por dividir os arquivos em pedaços de tamanho semelhante, de acordo com o paralelismo do
+     * executor. Os limites dos pedaços são ajustados às quebras de linha somente na leitura.
+     * 
+     * @param arquivos
+     *            Arquivos a serem divididos.
+     * 
+     * @return Os pedaços dos arquivos, na ordem dos arquivos.
+     */
+    protected List<Pedaco> dividir(List<File> arquivos) {
+        long tamanhoTotal = 0;
+
+        for (File arquivo : arquivos) {
+            tamanhoTotal += arquivo.length();
+        }
+
+        final long tamanhoDoPedaco = Math.max(TAMANHO_MINIMO_DO_PEDACO,
+                Math.min(TAMANHO_MAXIMO_DO_PEDACO, tamanhoTotal / ((long) executor.getParallelism() * PEDACOS_POR_THREAD)));
+        final List<Pedaco> pedacos = new ArrayList<>();
+
+        for (File arquivo : arquivos) {
+            final long tamanho = arquivo.length();
+            long inicio = 0;
+
+            do {
+                final long fim = Math.min(tamanho, inicio + tamanhoDoPedaco);
+
+                pedacos.add(new Pedaco(arquivo, inicio, fim));
+                inicio = fim;
+            } while (inicio < tamanho);
+        }
+
+        return pedacos;
+    }
+
+    /**
+     * Método responsável por ler um pedaço de arquivo, formando uma sequência ordenada. O pedaço começa na primeira linha
+     * iniciada a partir do seu início e termina na quebra da linha que contém o seu último byte; assim, cada linha
+     * pertence a um único pedaço. A quebra de linha nunca faz parte de um caractere UTF-8 de vários bytes.
+     * 
+     * @param pedaco
+     *            Pedaço a ser lido.
+     * 
+     * @return Os dicionários do pedaço, ordenados por {@link ArvoreAvl#ordenar(List)}.
+     * 
+     * @throws IOException
+     *             Caso não seja possível ler o arquivo.
+     */
+    protected List<Dicionario> ler(Pedaco pedaco) throws IOException {
+        final List<Dicionario> dicionarios = new ArrayList<>();
+
+        try (FileChannel canal = FileChannel.open(pedaco.arquivo.toPath(), StandardOpenOption.READ)) {
+            final long tamanho = canal.size();
+            final long inicio = pedaco.inicio == 0 ? 0 : CarregamentoParalelo.getFimDaLinha(canal, pedaco.inicio - 1, tamanho);
+            final long fim = pedaco.fim >= tamanho ? tamanho : CarregamentoParalelo.getFimDaLinha(canal, pedaco.fim - 1, tamanho);
+
+            if (inicio >= fim) {
+                return dicionarios;
+            }
+
+            final ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(fim - inicio));
+
+            while (bytes.hasRemaining()) {
+                if (canal.read(bytes, inicio + bytes.position()) < 0) {
+                    throw new EOFException(pedaco.arquivo.getPath());
+                }
+            }
+
+            try (BufferedReader leitor = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes.array()), StandardCharsets.UTF_8),
+                    TAMANHO_DO_BUFFER)) {
+                String linha;
+
+                while ((linha = leitor.readLine()) != null) {
+                    final Dicionario dicionario = AnalisadorDeLinha.analisar(linha);
+
+                    if (dicionario != null) {
+                        dicionarios.add(dicionario);
+                    } else {
+                        linhasInvalidas.increment();
+                    }
+                }
+            }
+        }
+
+        ArvoreAvl.ordenar(dicionarios);
+
+        return dicionarios;
+    }
+
+    /**
+     * Método responsável por encontrar o fim da linha que contém uma posição do arquivo.
+     * 
+     * @param canal
+     *            Canal do arquivo.
+     * 
+     * @param posicao
+     *            Posição desejada.
+     * 
+     * @param tamanho
+     *            Tamanho do arquivo.
+     * 
+     * @return A posição seguinte à quebra de linha, ou o tamanho do arquivo caso não haja uma quebra de linha.
+     * 
+     * @throws IOException
+     *             Caso não seja possível ler o arquivo.
+     */
+    private static long getFimDaLinha(FileChannel canal, long posicao, long tamanho) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_DO_BUFFER);
+
+        while (posicao < tamanho) {
+            buffer.clear();
+
+            final int lidos = canal.read(buffer, posicao);
+
+            if (lidos < 0) {
+                break;
+            }
+
+            for (int i = 0; i < lidos; i++) {
+                if (buffer.get(i) == '\n') {
+                    return posicao + i + 1;
+                }
+            }
+
+            posicao += lidos;
+        }
+
+        return tamanho;
+    }
+
+    /**
+     * Pedaço de um arquivo de dicionário, em bytes.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    protected static class Pedaco {
+
+        private final File arquivo;
+
+        /**
+         * Posição inicial (inclusiva).
+         */
+        private final long inicio;
+
+        /**
+         * Posição final (exclusiva).
+         */
+        private final long fim;
+
+        protected Pedaco(File arquivo, long inicio, long fim) {
+            this.arquivo = arquivo;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+    }
+
+    /**
+     * Tarefa que lê um intervalo de pedaços e intercala as suas sequências, dividindo o intervalo ao meio enquanto
+     * possuir mais de um pedaço.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    protected class Tarefa extends RecursiveTask<List<Dicionario>> {
+
+        private static final long  serialVersionUID = 1L;
+
+        private final List<Pedaco> pedacos;
+
+        /**
+         * Índice do primeiro pedaço (inclusivo).
+         */
+        private final int          inicio;
+
+        /**
+         * Índice do último pedaço (exclusivo).
+         */
+        private final int          fim;
+
+        protected Tarefa(List<Pedaco> pedacos, int inicio, int fim) {
+            this.pedacos = pedacos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected List<Dicionario> compute() {
+            if (fim - inicio == 1) {
+                try {
+                    return CarregamentoParalelo.this.ler(pedacos.get(inicio));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            final int meio = (inicio + fim) >>> 1;
+            final Tarefa primeiros = new Tarefa(pedacos, inicio, meio);
+
+            primeiros.fork();
+
+            final List<Dicionario> segundos = new Tarefa(pedacos, meio, fim).compute();
+
+            // Os primeiros pedaços vêm antes nos arquivos, logo as suas definições vêm primeiro.
+            return ArvoreAvl.intercalar(primeiros.join(), segundos);
+        }
+
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
 
 import java.io.Serializable;
+import java.text.CollationKey;
 import java.text.Collator;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,16 +41,37 @@ public class Dicionario implements Serializable {
         COLLATOR.setStrength(Collator.PRIMARY);
     }
 
+    /**
+     * Cópias do {@link #COLLATOR} por thread, utilizadas na geração das chaves. O {@link Collator} sincroniza a geração
+     * de chaves, o que serializaria as pesquisas concorrentes.
+     */
+    private static final ThreadLocal<Collator> COLLATOR_POR_THREAD = ThreadLocal.withInitial(() -> (Collator) COLLATOR.clone());
+
     /**
      * Palavra no idioma inglês.
      */
     protected String       palavra;
 
+    /**
+     * Chave de comparação da palavra, calculada uma única vez a partir do {@link #COLLATOR}. Não é serializada, sendo
+     * recalculada sob demanda.
+     */
+    private transient CollationKey chave;
+
     /**
      * Lista que irá armazenar as possíveis traduções para a palavra em inglês.
      */
     protected List<String> definicoes;
 
+    /**
+     * Definições pela sua chave de comparação, utilizado para verificar em tempo constante se uma definição já existe,
+     * ignorando acentos e letras maiúsculas e minúsculas. O índice não possui ordem; a ordem das definições é mantida
+     * somente por {@link #definicoes}. É criado somente na primeira alteração das definições, pois a geração das chaves é
+     * custosa, e descartado sempre que as definições são substituídas. Quando as definições possuem equivalentes entre
+     * si, o índice possui menos entradas que elas.
+     */
+    private transient Map<CollationKey, String> indiceDasDefinicoes;
+
     /**
      * Dicionário pai.
      */
@@ -61,6 +87,17 @@ public class Dicionario implements Serializable {
      */
     private Dicionario     direita;
 
+    /**
+     * Altura do dicionário atual na árvore. Um dicionário sem filhos possui altura 0.
+     */
+    private int            altura;
+
+    /**
+     * Quantidade de dicionários da subárvore do dicionário atual, incluindo ele mesmo. Um dicionário sem filhos possui
+     * tamanho 1.
+     */
+    private int            tamanho = 1;
+
     /**
      * Construtor responsável por inicializar o dicionário da palavra.
      * 
@@ -71,12 +108,12 @@ public class Dicionario implements Serializable {
      *            Definições da palavra.
      */
     public Dicionario(String palavra, List<String> definicoes) {
-        this.palavra = palavra;
+        this.setPalavra(palavra);
 
         if (definicoes != null) {
-            Dicionario.Utils.ajustarDefinicoes(definicoes);
-            
-            this.definicoes = definicoes;
+            this.definicoes = new ArrayList<>(definicoes);
+
+            Dicionario.Utils.ajustarDefinicoes(this.definicoes);
         } else {
             this.definicoes = new ArrayList<String>();
         }
@@ -89,7 +126,7 @@ public class Dicionario implements Serializable {
      *            Palavra a ser inserida.
      */
     public Dicionario(String palavra) {
-        this.palavra = palavra;
+        this.setPalavra(palavra);
         this.definicoes = new ArrayList<String>();
     }
 
@@ -113,25 +150,15 @@ public class Dicionario implements Serializable {
             return false;
         }
 
-        List<String> definicoes = this.getDefinicoes();
+        final Map<CollationKey, String> indiceDasDefinicoes = this.getIndiceDasDefinicoes();
         boolean adicionou = false;
+        novasDefinicoes = new ArrayList<>(novasDefinicoes);
         Dicionario.Utils.ajustarDefinicoes(novasDefinicoes);
 
         for (String novaDefinicao : novasDefinicoes) {
-            boolean jaPossuiDefinicao = false;
-
-            // Verifica se a nova definição já existe. Caso exista, continua tentando adicionar novas definições.
-            for (String definicao : definicoes) {
-                if (COLLATOR.compare(definicao, novaDefinicao) == 0) {
-                    jaPossuiDefinicao = true;
-
-                    break;
-                }
-            }
-
-            // Se não possui definição, adiciona a nova definição
-            if (!jaPossuiDefinicao) {
-                adicionou = this.getDefinicoes().add(novaDefinicao) || adicionou;
+            // Adiciona a nova definição somente se não existir. Caso exista, continua tentando adicionar novas definições.
+            if (indiceDasDefinicoes.putIfAbsent(Dicionario.Utils.gerarChave(novaDefinicao), novaDefinicao) == null) {
+                adicionou = definicoes.add(novaDefinicao) || adicionou;
             }
         }
 
@@ -153,13 +180,9 @@ public class Dicionario implements Serializable {
 
         definicao = definicao.trim().toLowerCase();
 
-        final List<String> definicoes = this.getDefinicoes();
-
         // Verifica se a definição já existe. Caso exista, retorna false. (Não adicionado)
-        for (String _definicao : definicoes) {
-            if (COLLATOR.compare(_definicao, definicao) == 0) {
-                return false;
-            }
+        if (this.getIndiceDasDefinicoes().putIfAbsent(Dicionario.Utils.gerarChave(definicao), definicao) != null) {
+            return false;
         }
 
         return definicoes.add(definicao);
@@ -180,17 +203,43 @@ public class Dicionario implements Serializable {
         
         definicao = definicao.toLowerCase().trim().replace("\\s+", " ");
         
-        boolean removeu = false;
+        final Map<CollationKey, String> indiceDasDefinicoes = this.getIndiceDasDefinicoes();
+        final CollationKey chave = Dicionario.Utils.gerarChave(definicao);
+        final String removida = indiceDasDefinicoes.remove(chave);
+
+        if (removida == null) {
+            return false;
+        }
+
+        // Sem definições equivalentes entre si, somente a definição indexada é removida. Caso contrário, remove todas as
+        // definições ignorando acentos, letras maiusculas e minusculas.
+        if (this.definicoes.size() == indiceDasDefinicoes.size() + 1) {
+            this.definicoes.remove(removida);
+        } else {
+            this.definicoes.removeIf(_definicao -> chave.equals(Dicionario.Utils.gerarChave(_definicao)));
+        }
+
+        return true;
+    }
+
+    /**
+     * Método responsável por resgatar o índice das definições, criando-o a partir das definições atuais caso ainda não
+     * exista.
+     * 
+     * @return O índice das definições.
+     */
+    private Map<CollationKey, String> getIndiceDasDefinicoes() {
+        if (indiceDasDefinicoes == null) {
+            final Map<CollationKey, String> indice = new HashMap<>(Math.max(16, definicoes.size() * 2));
 
-        for (int i = 0; i < this.getDefinicoes().size(); i++) {
-            // Remove todas as definições ignorando acentos, letras maiusculas e minusculas.
-            if (COLLATOR.compare(this.getDefinicoes().get(i), definicao) == 0) {
-                this.getDefinicoes().remove(i--);
-                removeu = true;
+            for (String definicao : definicoes) {
+                indice.putIfAbsent(Dicionario.Utils.gerarChave(definicao), definicao);
             }
+
+            indiceDasDefinicoes = indice;
         }
 
-        return removeu;
+        return indiceDasDefinicoes;
     }
 
     /**
@@ -202,7 +251,7 @@ public class Dicionario implements Serializable {
      * @see #getDefinicoes()
      */
     public boolean possuiDefinicoes() {
-        return this.getDefinicoes() != null && this.getDefinicoes().size() > 0;
+        return this.definicoes != null && this.definicoes.size() > 0;
     }
 
     /**
@@ -223,35 +272,84 @@ public class Dicionario implements Serializable {
      * @return -1 se a palavra for menor que a do dicionário; 0 se igual; 1 se a palavra for maior que a do dicionário.
      */
     public int compararPalavra(String palavraComparada) {
-        return COLLATOR.compare(this.getPalavra(), palavraComparada);
+        return this.compararChave(Dicionario.Utils.gerarChave(palavraComparada));
     }
 
     /**
-     * Método responsável por calcular a altura do dicionário atual.
+     * Método responsável por comparar a palavra do dicionário com uma chave já calculada. Ignora acentos e letras
+     * maiúsculas e minusculas.
      * 
-     * @return A altura do dicionário atual.
+     * @param chaveComparada
+     *            Chave a ser comparada, gerada por {@link Dicionario.Utils#gerarChave(String)}.
+     * 
+     * @return Um valor negativo se a palavra do dicionário for menor; 0 se igual; um valor positivo se a palavra do
+     *         dicionário for maior.
      */
-    public int getAltura() {
-        final Dicionario esquerda = this.getEsquerda();
-        final Dicionario direita = this.getDireita();
+    public int compararChave(CollationKey chaveComparada) {
+        return this.getChave().compareTo(chaveComparada);
+    }
 
-        // Se não existirem os dicionários da esquerda e da direita, a altura deve ser 0.
-        if (esquerda == null && direita == null) {
-            return 0;
-        }
+    /**
+     * Método responsável por verificar se a palavra do dicionário começa com um prefixo. Ignora acentos e letras
+     * maiúsculas e minusculas, assim como {@link #compararChave(CollationKey)}.
+     * 
+     * @param pesosDoPrefixo
+     *            Pesos primários do prefixo, gerados por {@link Dicionario.Utils#getPesosPrimarios(CollationKey)}.
+     * 
+     * @return True se a palavra começa com o prefixo. Caso contrário, false.
+     */
+    public boolean comecaCom(byte[] pesosDoPrefixo) {
+        final byte[] pesos = this.getChave().toByteArray();
 
-        // Se somente existir o dicionário da direita, a altura será 1 mais a altura do dicionário da direita.
-        if (esquerda == null && direita != null) {
-            return 1 + direita.getAltura();
+        if (pesos.length < pesosDoPrefixo.length) {
+            return false;
         }
 
-        // Se somente existir o dicionário da esquerda, a altura será 1 mais a altura do dicionário da dicionário.
-        if (esquerda != null && direita == null) {
-            return 1 + esquerda.getAltura();
+        for (int i = 0; i < pesosDoPrefixo.length; i++) {
+            if (pesos[i] != pesosDoPrefixo[i]) {
+                return false;
+            }
         }
 
-        // Se ambos os dicionários existirem, a altura será 1 mais a altura do maior dicionário.
-        return 1 + Math.max(esquerda.getAltura(), direita.getAltura());
+        return true;
+    }
+
+    /**
+     * Método responsável por resgatar a altura do dicionário atual.
+     * 
+     * @return A altura do dicionário atual.
+     * 
+     * @see #atualizarAltura()
+     */
+    public int getAltura() {
+        return altura;
+    }
+
+    /**
+     * Método responsável por recalcular a altura do dicionário atual a partir das alturas já calculadas dos dicionários
+     * da esquerda e da direita. Deve ser chamado sempre que um dos filhos for alterado.
+     */
+    public void atualizarAltura() {
+        this.altura = 1 + Math.max(Dicionario.Utils.getAltura(this.getEsquerda()), Dicionario.Utils.getAltura(this.getDireita()));
+    }
+
+    /**
+     * Método responsável por resgatar a quantidade de dicionários da subárvore do dicionário atual.
+     * 
+     * @return A quantidade de dicionários da subárvore, incluindo o dicionário atual.
+     * 
+     * @see #atualizarTamanho()
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Método responsável por recalcular o tamanho da subárvore do dicionário atual a partir dos tamanhos já calculados
+     * dos dicionários da esquerda e da direita. Deve ser chamado sempre que um dos filhos for alterado.
+     */
+    public void atualizarTamanho() {
+        this.tamanho = 1 + Dicionario.Utils.getTamanho(this.getEsquerda()) + Dicionario.Utils.getTamanho(this.getDireita());
     }
 
     /**
@@ -260,10 +358,7 @@ public class Dicionario implements Serializable {
      * @return O balanceamento do dicionário.
      */
     public int getBalanceamento() {
-        int alturaEsquerda = this.getEsquerda() == null ? 0 : this.getEsquerda().getAltura();
-        int alturaDireita = this.getDireita() == null ? 0 : this.getDireita().getAltura();
-
-        return alturaEsquerda - alturaDireita;
+        return Dicionario.Utils.getAltura(this.getEsquerda()) - Dicionario.Utils.getAltura(this.getDireita());
     }
 
     /**
@@ -283,17 +378,32 @@ public class Dicionario implements Serializable {
      */
     public void setPalavra(String palavra) {
         this.palavra = palavra;
+        this.chave = Dicionario.Utils.gerarChave(palavra);
     }
 
     /**
-     * Método responsável por resgatar as definições da palavra atual.
+     * Método responsável por resgatar a chave de comparação da palavra atual.
+     * 
+     * @return A chave de comparação da palavra atual.
+     */
+    public CollationKey getChave() {
+        if (chave == null && palavra != null) {
+            chave = Dicionario.Utils.gerarChave(palavra);
+        }
+
+        return chave;
+    }
+
+    /**
+     * Método responsável por resgatar as definições da palavra atual. A lista retornada não pode ser modificada; as
+     * definições devem ser alteradas pelos métodos do dicionário.
      * 
      * @return As definições da palavra atual.
      * 
      * @see #getPalavra()
      */
     public List<String> getDefinicoes() {
-        return definicoes;
+        return Collections.unmodifiableList(definicoes);
     }
 
     /**
@@ -305,10 +415,12 @@ public class Dicionario implements Serializable {
      * @see #getPalavra()
      */
     public void setDefinicoes(List<String> definicoes) {
+        this.indiceDasDefinicoes = null;
+
         if (definicoes != null) {
-            Dicionario.Utils.ajustarDefinicoes(definicoes);
+            this.definicoes = new ArrayList<>(definicoes);
 
-            this.definicoes = definicoes;
+            Dicionario.Utils.ajustarDefinicoes(this.definicoes);
         } else {
             this.definicoes = new ArrayList<>();
         }
@@ -372,13 +484,15 @@ public class Dicionario implements Serializable {
     }
 
     /**
-     * Método responsável por representar o dicionário.
+     * Método responsável por representar o dicionário. Os dicionários da esquerda e da direita são representados somente
+     * pelas suas palavras, para que a representação não percorra a árvore.
      * 
      * @return A representação do dicionário.
      */
     @Override
     public String toString() {
-        return "Dicionario [palavra=" + palavra + ", definicoes=" + definicoes + ", esquerda=" + esquerda + ", direita=" + direita + "]";
+        return "Dicionario [palavra=" + palavra + ", definicoes=" + definicoes + ", esquerda=" + (esquerda == null ? null : esquerda.palavra)
+                + ", direita=" + (direita == null ? null : direita.palavra) + ", altura=" + altura + ", tamanho=" + tamanho + "]";
     }
 
     /**
@@ -390,26 +504,309 @@ public class Dicionario implements Serializable {
     public static class Utils {
 
         /**
-         * Método responsável por ajustar as definições.
+         * Método responsável por gerar a chave de comparação de uma palavra. Ignora acentos e letras maiúsculas e
+         * minusculas.
+         * 
+         * @param palavra
+         *            Palavra desejada.
+         * 
+         * @return A chave de comparação da palavra, ou null se a palavra for nula.
+         */
+        public static CollationKey gerarChave(String palavra) {
+            return COLLATOR_POR_THREAD.get().getCollationKey(palavra);
+        }
+
+        /**
+         * Método responsável por criar um dicionário com definições já ajustadas por {@link #ajustarDefinicoes(List)},
+         * como as lidas do {@link DicionarioBinario}, sem ajustá-las novamente. A chave de comparação da palavra só é
+         * calculada quando for utilizada.
+         * 
+         * @param palavra
+         *            Palavra do dicionário.
+         * 
+         * @param definicoes
+         *            Definições já ajustadas, utilizadas sem cópia.
+         * 
+         * @return O dicionário criado.
+         */
+        static Dicionario criarAjustado(String palavra, List<String> definicoes) {
+            final Dicionario dicionario = new Dicionario();
+
+            dicionario.palavra = palavra;
+            dicionario.definicoes = definicoes;
+
+            return dicionario;
+        }
+
+        /**
+         * Método responsável por extrair os pesos primários de uma chave de comparação. A chave é formada por pesos de 16
+         * bits, e os pesos primários terminam no primeiro peso nulo. Uma palavra começa com um prefixo quando os pesos
+         * primários do prefixo são o início da sua chave.
+         * 
+         * @param chave
+         *            Chave de comparação, gerada por {@link #gerarChave(String)}.
+         * 
+         * @return Os pesos primários da chave.
+         */
+        public static byte[] getPesosPrimarios(CollationKey chave) {
+            final byte[] pesos = chave.toByteArray();
+            int tamanho = 0;
+
+            while (tamanho + 1 < pesos.length && (pesos[tamanho] != 0 || pesos[tamanho + 1] != 0)) {
+                tamanho += 2;
+            }
+
+            return Arrays.copyOf(pesos, tamanho);
+        }
+
+        /**
+         * Método responsável por resgatar a altura de um dicionário, considerando um dicionário inexistente com altura -1.
+         * 
+         * @param dicionario
+         *            Dicionário desejado.
+         * 
+         * @return A altura do dicionário.
+         */
+        public static int getAltura(Dicionario dicionario) {
+            return dicionario == null ? -1 : dicionario.getAltura();
+        }
+
+        /**
+         * Método responsável por resgatar o tamanho da subárvore de um dicionário, considerando um dicionário inexistente
+         * com tamanho 0.
+         * 
+         * @param dicionario
+         *            Dicionário desejado.
+         * 
+         * @return O tamanho da subárvore do dicionário.
+         */
+        public static int getTamanho(Dicionario dicionario) {
+            return dicionario == null ? 0 : dicionario.getTamanho();
+        }
+
+        /**
+         * Quantidade de definições até a qual as repetidas são procuradas diretamente na lista, sem criar um conjunto.
+         */
+        private static final int                        LIMITE_DA_PESQUISA_LINEAR = 8;
+
+        /**
+         * Buffer reutilizado na normalização das definições, por thread.
+         */
+        private static final ThreadLocal<StringBuilder> BUFFER_POR_THREAD         = ThreadLocal.withInitial(StringBuilder::new);
+
+        /**
+         * Método responsável por ajustar as definições: remove os valores nulos e brancos, ajusta as definições para
+         * minúsculo, remove os espaços em branco excedentes e remove os valores repetidos, preservando a ordem. As
+         * definições são ajustadas na própria lista, em uma única passagem.
          * 
          * @param definicoes
          *            Definições a serem ajustadas.
+         * 
+         * @see #normalizarDefinicao(String)
          */
         public static void ajustarDefinicoes(List<String> definicoes) {
-            // Foi usado LinkedHashSet ao invés de HashSet para preservar a ordem de inserção dos elementos.
-            Set<String> _definicoes = new LinkedHashSet<>();
-
-            // Remove os valores nulos e brancos.
-            // Ajusta todas as definições para minúsculo e remove os espaços em branco excedentes.
-            for (int i = 0; i < definicoes.size(); i++) {
-                if (!StringUtils.isBlank(definicoes.get(i))) {
-                    _definicoes.add(definicoes.get(i).trim().toLowerCase().replaceAll("\\s+", " "));
+            final int quantidade = definicoes.size();
+            Set<String> ajustadas = null;
+            int escritas = 0;
+
+            for (int i = 0; i < quantidade; i++) {
+                final String definicao = Dicionario.Utils.normalizarDefinicao(definicoes.get(i));
+
+                if (definicao == null) {
+                    continue;
+                }
+
+                // Remove os valores repetidos. Listas pequenas são pesquisadas diretamente, sem alocar um conjunto.
+                if (escritas < LIMITE_DA_PESQUISA_LINEAR) {
+                    if (Dicionario.Utils.contem(definicoes, escritas, definicao)) {
+                        continue;
+                    }
+                } else {
+                    if (ajustadas == null) {
+                        ajustadas = new HashSet<>(definicoes.subList(0, escritas));
+                    }
+
+                    if (!ajustadas.add(definicao)) {
+                        continue;
+                    }
+                }
+
+                definicoes.set(escritas++, definicao);
+            }
+
+            if (escritas < quantidade) {
+                definicoes.subList(escritas, quantidade).clear();
+            }
+        }
+
+        /**
+         * Método responsável por verificar se uma definição está entre as primeiras definições de uma lista.
+         * 
+         * @param definicoes
+         *            Definições desejadas.
+         * 
+         * @param quantidade
+         *            Quantidade de definições a serem verificadas, a partir do início da lista.
+         * 
+         * @param definicao
+         *            Definição procurada.
+         * 
+         * @return True se a definição for encontrada. Caso contrário, false.
+         */
+        private static boolean contem(List<String> definicoes, int quantidade, String definicao) {
+            for (int i = 0; i < quantidade; i++) {
+                if (definicoes.get(i).equals(definicao)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Método responsável por normalizar uma definição, com o mesmo resultado de
+         * {@code definicao.trim().toLowerCase().replaceAll("\\s+", " ")}, mas sem expressões regulares e sem cópias
+         * intermediárias. Uma definição já normalizada é retornada sem cópia. Definições com caracteres fora do ASCII, ou
+         * em locales com regras próprias de minúsculas, são ajustadas para minúsculo pelo {@link String#toLowerCase()}.
+         * 
+         * @param definicao
+         *            Definição a ser normalizada.
+         * 
+         * @return A definição normalizada, ou null se a definição for nula ou branca.
+         */
+        public static String normalizarDefinicao(String definicao) {
+            if (definicao == null) {
+                return null;
+            }
+
+            // Remove os caracteres removidos pelo String.trim.
+            int inicio = 0, fim = definicao.length();
+
+            while (inicio < fim && definicao.charAt(inicio) <= ' ') {
+                inicio++;
+            }
+
+            while (fim > inicio && definicao.charAt(fim - 1) <= ' ') {
+                fim--;
+            }
+
+            if (inicio == fim) {
+                return StringUtils.isBlank(definicao) ? null : "";
+            }
+
+            // Procura o primeiro caractere a ser alterado.
+            int i = inicio;
+
+            while (i < fim) {
+                final char caractere = definicao.charAt(i);
+
+                if (caractere >= 0x80) {
+                    return Dicionario.Utils.normalizarDefinicaoUnicode(definicao);
                 }
+
+                if ((caractere >= 'A' && caractere <= 'Z') || (ehEspacoEmBranco(caractere) && (caractere != ' ' || ehEspacoEmBranco(definicao.charAt(i + 1))))) {
+                    break;
+                }
+
+                i++;
             }
 
-            // Remove os valores repetidos.
-            definicoes.clear();
-            definicoes.addAll(_definicoes);
+            if (i == fim) {
+                return inicio == 0 && fim == definicao.length() ? definicao : definicao.substring(inicio, fim);
+            }
+
+            if (!Dicionario.Utils.possuiMinusculasAscii()) {
+                return Dicionario.Utils.normalizarDefinicaoUnicode(definicao);
+            }
+
+            final StringBuilder buffer = BUFFER_POR_THREAD.get();
+
+            buffer.setLength(0);
+            buffer.append(definicao, inicio, i);
+
+            while (i < fim) {
+                final char caractere = definicao.charAt(i++);
+
+                if (caractere >= 0x80) {
+                    return Dicionario.Utils.normalizarDefinicaoUnicode(definicao);
+                }
+
+                if (ehEspacoEmBranco(caractere)) {
+                    while (ehEspacoEmBranco(definicao.charAt(i))) {
+                        i++;
+                    }
+
+                    buffer.append(' ');
+                } else {
+                    buffer.append(caractere >= 'A' && caractere <= 'Z' ? (char) (caractere + ('a' - 'A')) : caractere);
+                }
+            }
+
+            return buffer.toString();
+        }
+
+        /**
+         * Método responsável por normalizar uma definição com caracteres fora do ASCII, utilizando as regras completas do
+         * {@link String#toLowerCase()}.
+         * 
+         * @param definicao
+         *            Definição a ser normalizada.
+         * 
+         * @return A definição normalizada, ou null se a definição for branca.
+         */
+        private static String normalizarDefinicaoUnicode(String definicao) {
+            if (StringUtils.isBlank(definicao)) {
+                return null;
+            }
+
+            final String minuscula = definicao.trim().toLowerCase();
+            final StringBuilder buffer = BUFFER_POR_THREAD.get();
+            boolean alterou = false;
+
+            buffer.setLength(0);
+
+            for (int i = 0; i < minuscula.length(); i++) {
+                final char caractere = minuscula.charAt(i);
+
+                if (ehEspacoEmBranco(caractere)) {
+                    while (i + 1 < minuscula.length() && ehEspacoEmBranco(minuscula.charAt(i + 1))) {
+                        i++;
+                        alterou = true;
+                    }
+
+                    alterou = alterou || caractere != ' ';
+                    buffer.append(' ');
+                } else {
+                    buffer.append(caractere);
+                }
+            }
+
+            return alterou ? buffer.toString() : minuscula;
+        }
+
+        /**
+         * Método responsável por indicar se um caractere é um espaço em branco da classe {@code \s} das expressões
+         * regulares.
+         * 
+         * @param caractere
+         *            Caractere desejado.
+         * 
+         * @return True se o caractere for um espaço em branco. Caso contrário, false.
+         */
+        private static boolean ehEspacoEmBranco(char caractere) {
+            return caractere == ' ' || (caractere >= '\t' && caractere <= '\r');
+        }
+
+        /**
+         * Método responsável por indicar se o locale padrão ajusta as letras ASCII para minúsculo da forma usual. Os
+         * locales turco, azeri e lituano possuem regras próprias, como a do "I".
+         * 
+         * @return True se as letras de A a Z se tornam as letras de a a z. Caso contrário, false.
+         */
+        private static boolean possuiMinusculasAscii() {
+            final String idioma = Locale.getDefault().getLanguage();
+
+            return !"tr".equals(idioma) && !"az".equals(idioma) && !"lt".equals(idioma);
         }
 
     }
@@ -0,0 +1,388 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Classe responsável por ler e escrever o formato binário do dicionário.
+ * <p>
+ * Formato (versão 1), com inteiros em big-endian:
+ * 
+ * <pre>
+ * int   assinatura ("AVLD")
+ * int   versão
+ * para cada dicionário, na ordem de {@link Tradutor#getConteudo()}:
+ *     int tamanho da chave, byte[] chave de comparação ({@link java.text.CollationKey#toByteArray()})
+ *     int tamanho da palavra, byte[] palavra em UTF-8
+ *     int quantidade de definições
+ *     para cada definição: int tamanho, byte[] definição em UTF-8
+ * long[] posição de cada dicionário no arquivo (índice)
+ * int   quantidade de dicionários
+ * long  posição do índice
+ * </pre>
+ * 
+ * A leitura é feita com {@link FileChannel#map(FileChannel.MapMode, long, long)}, o que limita o arquivo a 2 GB.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see Tradutor#salvaDicionarioBinario(String)
+ * @see Tradutor#carregaDicionarioBinario(String)
+ */
+public class DicionarioBinario {
+
+    /**
+     * Assinatura do arquivo binário ("AVLD").
+     */
+    public static final int ASSINATURA        = 0x41564C44;
+
+    /**
+     * Versão atual do formato binário.
+     */
+    public static final int VERSAO            = 1;
+
+    /**
+     * Tamanho do cabeçalho do arquivo, em bytes.
+     */
+    public static final int TAMANHO_CABECALHO = 2 * Integer.BYTES;
+
+    /**
+     * Tamanho do rodapé do arquivo, em bytes.
+     */
+    public static final int TAMANHO_RODAPE    = Integer.BYTES + Long.BYTES;
+
+    /**
+     * Tamanho do buffer de escrita do arquivo.
+     */
+    private static final int TAMANHO_DO_BUFFER = 64 * 1024;
+
+    /**
+     * Construtor privado, pois a classe possui somente métodos estáticos.
+     */
+    private DicionarioBinario() {
+    }
+
+    /**
+     * Método responsável por escrever os dicionários no formato binário.
+     * 
+     * @param dicionarios
+     *            Dicionários a serem escritos, na ordem de {@link Tradutor#getConteudo()}.
+     * 
+     * @param arquivo
+     *            Arquivo de destino.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de escrita.
+     */
+    public static void escrever(Iterable<Dicionario> dicionarios, File arquivo) throws IOException {
+        File caminho = arquivo.getAbsoluteFile().getParentFile();
+
+        if (caminho != null) {
+            caminho.mkdirs();
+        }
+
+        try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(arquivo), TAMANHO_DO_BUFFER))) {
+            long[] indice = new long[16];
+            long posicao = TAMANHO_CABECALHO;
+            int quantidade = 0;
+
+            saida.writeInt(ASSINATURA);
+            saida.writeInt(VERSAO);
+
+            for (Dicionario dicionario : dicionarios) {
+                if (quantidade == indice.length) {
+                    indice = Arrays.copyOf(indice, quantidade * 2);
+                }
+
+                indice[quantidade++] = posicao;
+
+                posicao += DicionarioBinario.escreverBytes(saida, dicionario.getChave().toByteArray());
+                posicao += DicionarioBinario.escreverBytes(saida, dicionario.getPalavra().getBytes(StandardCharsets.UTF_8));
+
+                saida.writeInt(dicionario.getDefinicoes().size());
+                posicao += Integer.BYTES;
+
+                for (String definicao : dicionario.getDefinicoes()) {
+                    posicao += DicionarioBinario.escreverBytes(saida, definicao.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            for (int i = 0; i < quantidade; i++) {
+                saida.writeLong(indice[i]);
+            }
+
+            saida.writeInt(quantidade);
+            saida.writeLong(posicao);
+        }
+    }
+
+    /**
+     * Método responsável por ler os dicionários de um arquivo no formato binário. As palavras e as definições gravadas já
+     * estão ajustadas e na ordem de {@link Tradutor#getConteudo()}, o que é verificado pelos bytes das chaves gravadas;
+     * assim, os dicionários são criados sem ajustar as definições novamente, e as chaves de comparação só são calculadas
+     * quando forem utilizadas.
+     * 
+     * @param arquivo
+     *            Arquivo de origem.
+     * 
+     * @return Os dicionários, na ordem em que foram escritos.
+     * 
+     * @throws IOException
+     *             Caso o arquivo não seja um dicionário binário válido, esteja corrompido ou ocorra um erro de leitura.
+     */
+    public static List<Dicionario> ler(File arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = DicionarioBinario.mapear(canal);
+
+            try {
+                return DicionarioBinario.ler(buffer);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IOException("Arquivo corrompido: " + arquivo.getPath(), e);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por ler os dicionários de um arquivo mapeado em memória, com o cabeçalho já validado.
+     * 
+     * @param buffer
+     *            Arquivo mapeado em memória.
+     * 
+     * @return Os dicionários, na ordem em que foram escritos.
+     * 
+     * @throws IOException
+     *             Caso o rodapé seja inconsistente ou os dicionários não estejam na ordem de
+     *             {@link Tradutor#getConteudo()}.
+     */
+    private static List<Dicionario> ler(MappedByteBuffer buffer) throws IOException {
+        final int posicaoDoIndice = DicionarioBinario.validarRodape(buffer);
+        final int quantidade = buffer.getInt(buffer.limit() - TAMANHO_RODAPE);
+
+        // Os dicionários terminam no índice; uma leitura além dele indica um arquivo corrompido.
+        buffer.limit(posicaoDoIndice);
+        buffer.position(TAMANHO_CABECALHO);
+
+        List<Dicionario> dicionarios = new ArrayList<>(quantidade);
+        byte[] bytes = new byte[256];
+        int posicaoDaChaveAnterior = -1;
+
+        for (int i = 0; i < quantidade; i++) {
+            final int posicaoDaChave = buffer.position();
+
+            // A chave de comparação não pode ser reconstruída a partir dos bytes; é utilizada somente para validar a ordem.
+            buffer.position(posicaoDaChave + Integer.BYTES + buffer.getInt(posicaoDaChave));
+
+            if (posicaoDaChaveAnterior >= 0 && DicionarioBinario.compararChaves(buffer, posicaoDaChaveAnterior, posicaoDaChave) <= 0) {
+                throw new IOException("Arquivo corrompido: dicionários fora de ordem");
+            }
+
+            posicaoDaChaveAnterior = posicaoDaChave;
+
+            int tamanho = buffer.getInt();
+            bytes = DicionarioBinario.ler(buffer, bytes, tamanho);
+            String palavra = new String(bytes, 0, tamanho, StandardCharsets.UTF_8);
+
+            int quantidadeDeDefinicoes = buffer.getInt();
+
+            if (quantidadeDeDefinicoes < 0 || quantidadeDeDefinicoes > buffer.remaining() / Integer.BYTES) {
+                throw new BufferUnderflowException();
+            }
+
+            List<String> definicoes = new ArrayList<>(quantidadeDeDefinicoes);
+
+            for (int j = 0; j < quantidadeDeDefinicoes; j++) {
+                tamanho = buffer.getInt();
+                bytes = DicionarioBinario.ler(buffer, bytes, tamanho);
+                definicoes.add(new String(bytes, 0, tamanho, StandardCharsets.UTF_8));
+            }
+
+            dicionarios.add(Dicionario.Utils.criarAjustado(palavra, definicoes));
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IOException("Arquivo corrompido: dados após os dicionários");
+        }
+
+        return dicionarios;
+    }
+
+    /**
+     * Método responsável por validar o rodapé de um arquivo mapeado em memória: a quantidade de dicionários não pode ser
+     * negativa, e o índice deve começar após o cabeçalho e terminar exatamente no rodapé.
+     * 
+     * @param buffer
+     *            Arquivo mapeado em memória, com o cabeçalho já validado.
+     * 
+     * @return A posição do índice no arquivo.
+     * 
+     * @throws IOException
+     *             Caso o rodapé seja inconsistente.
+     */
+    static int validarRodape(MappedByteBuffer buffer) throws IOException {
+        final int quantidade = buffer.getInt(buffer.limit() - TAMANHO_RODAPE);
+        final long posicaoDoIndice = buffer.getLong(buffer.limit() - Long.BYTES);
+
+        if (quantidade < 0 || posicaoDoIndice < TAMANHO_CABECALHO
+                || posicaoDoIndice + (long) quantidade * Long.BYTES + TAMANHO_RODAPE != buffer.limit()) {
+            throw new IOException("Arquivo corrompido: rodapé inconsistente");
+        }
+
+        return (int) posicaoDoIndice;
+    }
+
+    /**
+     * Método responsável por comparar duas chaves gravadas no arquivo, byte a byte e sem sinal, da mesma forma que
+     * {@link TradutorMapeado#compararChave(int, byte[])}.
+     * 
+     * @param buffer
+     *            Arquivo mapeado em memória.
+     * 
+     * @param posicao
+     *            Posição da primeira chave, precedida pelo seu tamanho.
+     * 
+     * @param outraPosicao
+     *            Posição da segunda chave, precedida pelo seu tamanho.
+     * 
+     * @return Um valor negativo se a primeira chave for menor; 0 se igual; um valor positivo se a primeira chave for
+     *         maior.
+     */
+    private static int compararChaves(MappedByteBuffer buffer, int posicao, int outraPosicao) {
+        final int tamanho = buffer.getInt(posicao), outroTamanho = buffer.getInt(outraPosicao);
+        final int limite = Math.min(tamanho, outroTamanho);
+
+        for (int i = 0; i < limite; i++) {
+            final int resultadoDaComparacao = (buffer.get(posicao + Integer.BYTES + i) & 0xFF) - (buffer.get(outraPosicao + Integer.BYTES + i) & 0xFF);
+
+            if (resultadoDaComparacao != 0) {
+                return resultadoDaComparacao;
+            }
+        }
+
+        return tamanho - outroTamanho;
+    }
+
+    /**
+     * Método responsável por mapear um arquivo binário em memória, validando o cabeçalho.
+     * 
+     * @param canal
+     *            Canal do arquivo.
+     * 
+     * @return O arquivo mapeado em memória.
+     * 
+     * @throws IOException
+     *             Caso o arquivo não seja um dicionário binário válido ou ocorra um erro de leitura.
+     */
+    protected static MappedByteBuffer mapear(FileChannel canal) throws IOException {
+        final long tamanho = canal.size();
+
+        if (tamanho > Integer.MAX_VALUE) {
+            throw new IOException("O dicionário binário excede o tamanho máximo de 2 GB: " + tamanho + " bytes");
+        }
+
+        if (tamanho < TAMANHO_CABECALHO + TAMANHO_RODAPE) {
+            throw new IOException("O arquivo não é um dicionário binário válido");
+        }
+
+        MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+
+        if (buffer.getInt(0) != ASSINATURA) {
+            throw new IOException("O arquivo não é um dicionário binário válido");
+        }
+
+        if (buffer.getInt(Integer.BYTES) != VERSAO) {
+            throw new IOException("Versão do dicionário binário não suportada: " + buffer.getInt(Integer.BYTES));
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Método responsável por escrever um vetor de bytes precedido pelo seu tamanho.
+     * 
+     * @param saida
+     *            Fluxo de saída.
+     * 
+     * @param bytes
+     *            Bytes a serem escritos.
+     * 
+     * @return A quantidade total de bytes escritos.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de escrita.
+     */
+    private static int escreverBytes(DataOutputStream saida, byte[] bytes) throws IOException {
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+
+        return Integer.BYTES + bytes.length;
+    }
+
+    /**
+     * Método responsável por ler bytes do buffer para um vetor reutilizável, aumentando o vetor se necessário.
+     * 
+     * @param buffer
+     *            Buffer de origem.
+     * 
+     * @param bytes
+     *            Vetor reutilizável.
+     * 
+     * @param tamanho
+     *            Quantidade de bytes a serem lidos.
+     * 
+     * @return O vetor com os bytes lidos.
+     */
+    private static byte[] ler(MappedByteBuffer buffer, byte[] bytes, int tamanho) {
+        // Rejeita um tamanho inválido antes de aumentar o vetor, evitando alocações enormes em arquivos corrompidos.
+        if (tamanho < 0 || tamanho > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        if (bytes.length < tamanho) {
+            bytes = new byte[Math.max(tamanho, bytes.length * 2)];
+        }
+
+        buffer.get(bytes, 0, tamanho);
+
+        return bytes;
+    }
+
+    /**
+     * Método responsável por converter um dicionário do formato texto para o formato binário.
+     * 
+     * @param arquivoTexto
+     *            Arquivo de origem, no formato texto.
+     * 
+     * @param arquivoBinario
+     *            Arquivo de destino, no formato binário.
+     */
+    public static void converterParaBinario(String arquivoTexto, String arquivoBinario) {
+        new Tradutor(arquivoTexto).salvaDicionarioBinario(arquivoBinario);
+    }
+
+    /**
+     * Método responsável por converter um dicionário do formato binário para o formato texto.
+     * 
+     * @param arquivoBinario
+     *            Arquivo de origem, no formato binário.
+     * 
+     * @param arquivoTexto
+     *            Arquivo de destino, no formato texto.
+     */
+    public static void converterParaTexto(String arquivoBinario, String arquivoTexto) {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.carregaDicionarioBinario(arquivoBinario);
+        tradutor.salvaDicionario(arquivoTexto);
+    }
+
+}
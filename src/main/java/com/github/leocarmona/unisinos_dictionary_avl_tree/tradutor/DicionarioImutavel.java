@@ -0,0 +1,227 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Versão imutável do {@link Dicionario}, utilizada como nodo da
+ * {@link com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvlPersistente ArvoreAvlPersistente}. Nenhum
+ * atributo é alterado após a construção, logo o dicionário pode ser compartilhado entre várias versões da árvore e lido
+ * por várias threads sem sincronização.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see Dicionario
+ */
+public final class DicionarioImutavel {
+
+    /**
+     * Palavra no idioma inglês.
+     */
+    private final String             palavra;
+
+    /**
+     * Chave de comparação da palavra.
+     */
+    private final CollationKey       chave;
+
+    /**
+     * Possíveis traduções para a palavra em inglês.
+     */
+    private final List<String>       definicoes;
+
+    /**
+     * Dicionário da esquerda.
+     */
+    private final DicionarioImutavel esquerda;
+
+    /**
+     * Dicionário da direita.
+     */
+    private final DicionarioImutavel direita;
+
+    /**
+     * Altura do dicionário atual. Um dicionário sem filhos possui altura 0.
+     */
+    private final int                altura;
+
+    /**
+     * Construtor responsável por inicializar um dicionário imutável sem filhos a partir de um {@link Dicionario}.
+     * 
+     * @param dicionario
+     *            Dicionário a ser copiado.
+     */
+    public DicionarioImutavel(Dicionario dicionario) {
+        this(dicionario.getPalavra(), dicionario.getChave(), Collections.unmodifiableList(new ArrayList<>(dicionario.getDefinicoes())), null, null);
+    }
+
+    /**
+     * Construtor responsável por inicializar o dicionário imutável.
+     * 
+     * @param palavra
+     *            Palavra.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra.
+     * 
+     * @param definicoes
+     *            Definições não modificáveis da palavra.
+     * 
+     * @param esquerda
+     *            Dicionário da esquerda.
+     * 
+     * @param direita
+     *            Dicionário da direita.
+     */
+    private DicionarioImutavel(String palavra, CollationKey chave, List<String> definicoes, DicionarioImutavel esquerda, DicionarioImutavel direita) {
+        this.palavra = palavra;
+        this.chave = chave;
+        this.definicoes = definicoes;
+        this.esquerda = esquerda;
+        this.direita = direita;
+        this.altura = 1 + Math.max(DicionarioImutavel.getAltura(esquerda), DicionarioImutavel.getAltura(direita));
+    }
+
+    /**
+     * Método responsável por criar uma cópia do dicionário atual com novos filhos. A palavra e as definições são
+     * compartilhadas.
+     * 
+     * @param esquerda
+     *            Novo dicionário da esquerda.
+     * 
+     * @param direita
+     *            Novo dicionário da direita.
+     * 
+     * @return A cópia do dicionário atual com os novos filhos.
+     */
+    public DicionarioImutavel comFilhos(DicionarioImutavel esquerda, DicionarioImutavel direita) {
+        if (esquerda == this.esquerda && direita == this.direita) {
+            return this;
+        }
+
+        return new DicionarioImutavel(palavra, chave, definicoes, esquerda, direita);
+    }
+
+    /**
+     * Método responsável por criar uma cópia do dicionário atual unificando as novas definições, da mesma forma que
+     * {@link Dicionario#adicionarDefinicoes(List)}.
+     * 
+     * @param novasDefinicoes
+     *            Novas definições a serem unificadas.
+     * 
+     * @return A cópia do dicionário com as definições unificadas, ou o próprio dicionário caso nenhuma definição seja
+     *         adicionada.
+     */
+    public DicionarioImutavel comDefinicoes(List<String> novasDefinicoes) {
+        Dicionario unificado = new Dicionario(palavra, new ArrayList<>(definicoes));
+
+        if (!unificado.adicionarDefinicoes(new ArrayList<>(novasDefinicoes))) {
+            return this;
+        }
+
+        return new DicionarioImutavel(palavra, chave, Collections.unmodifiableList(unificado.getDefinicoes()), esquerda, direita);
+    }
+
+    /**
+     * Método responsável por comparar a palavra do dicionário com uma chave já calculada.
+     * 
+     * @param chaveComparada
+     *            Chave a ser comparada.
+     * 
+     * @return Um valor negativo se a palavra do dicionário for menor; 0 se igual; um valor positivo se a palavra do
+     *         dicionário for maior.
+     * 
+     * @see Dicionario#compararChave(CollationKey)
+     */
+    public int compararChave(CollationKey chaveComparada) {
+        return chave.compareTo(chaveComparada);
+    }
+
+    /**
+     * Método responsável por resgatar o balanceamento do dicionário.
+     * 
+     * @return O balanceamento do dicionário.
+     */
+    public int getBalanceamento() {
+        return DicionarioImutavel.getAltura(esquerda) - DicionarioImutavel.getAltura(direita);
+    }
+
+    /**
+     * Método responsável por resgatar a palavra atual.
+     * 
+     * @return A palavra atual.
+     */
+    public String getPalavra() {
+        return palavra;
+    }
+
+    /**
+     * Método responsável por resgatar a chave de comparação da palavra atual.
+     * 
+     * @return A chave de comparação da palavra atual.
+     */
+    public CollationKey getChave() {
+        return chave;
+    }
+
+    /**
+     * Método responsável por resgatar as definições não modificáveis da palavra atual.
+     * 
+     * @return As definições da palavra atual.
+     */
+    public List<String> getDefinicoes() {
+        return definicoes;
+    }
+
+    /**
+     * Método responsável por resgatar o dicionário da esquerda.
+     * 
+     * @return O dicionário da esquerda.
+     */
+    public DicionarioImutavel getEsquerda() {
+        return esquerda;
+    }
+
+    /**
+     * Método responsável por resgatar o dicionário da direita.
+     * 
+     * @return O dicionário da direita.
+     */
+    public DicionarioImutavel getDireita() {
+        return direita;
+    }
+
+    /**
+     * Método responsável por resgatar a altura do dicionário atual.
+     * 
+     * @return A altura do dicionário atual.
+     */
+    public int getAltura() {
+        return altura;
+    }
+
+    /**
+     * Método responsável por resgatar a altura de um dicionário, considerando um dicionário inexistente com altura -1.
+     * 
+     * @param dicionario
+     *            Dicionário desejado.
+     * 
+     * @return A altura do dicionário.
+     */
+    public static int getAltura(DicionarioImutavel dicionario) {
+        return dicionario == null ? -1 : dicionario.altura;
+    }
+
+    /**
+     * Método responsável por representar o dicionário.
+     * 
+     * @return A representação do dicionário.
+     */
+    @Override
+    public String toString() {
+        return "DicionarioImutavel [palavra=" + palavra + ", definicoes=" + definicoes + ", altura=" + altura + "]";
+    }
+
+}
@@ -0,0 +1,404 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Classe responsável por traduzir textos completos palavra por palavra, utilizando um {@link Tradutor}. Cada palavra com
+ * tradução é substituída pela sua primeira definição; as palavras sem tradução, a pontuação e os espaços em branco são
+ * mantidos como estão.
+ * <p>
+ * A tradução é feita em três etapas encadeadas, cada uma em sua própria thread: a leitura e a separação das palavras, a
+ * pesquisa das traduções e a escrita do texto traduzido. As etapas trocam blocos de texto por filas limitadas, de forma
+ * que a memória utilizada não depende do tamanho do texto.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class TraducaoDeTexto {
+
+    /**
+     * Quantidade de caracteres lidos do texto de cada vez.
+     */
+    protected static final int   TAMANHO_DO_BUFFER         = 8 * 1024;
+
+    /**
+     * Quantidade máxima de partes (palavras e separadores) de um bloco.
+     */
+    protected static final int   PARTES_POR_BLOCO          = 4 * 1024;
+
+    /**
+     * Quantidade máxima de blocos aguardando em cada fila entre as etapas.
+     */
+    protected static final int   CAPACIDADE_DA_FILA        = 4;
+
+    /**
+     * Tamanho máximo de uma palavra. Sequências maiores não são traduzidas, sendo escritas como estão.
+     */
+    protected static final int   TAMANHO_MAXIMO_DA_PALAVRA = 256;
+
+    /**
+     * Bloco que sinaliza o fim do texto nas filas.
+     */
+    private static final Bloco   FIM                       = new Bloco();
+
+    private final Tradutor       tradutor;
+
+    /**
+     * Construtor da tradução de texto.
+     * 
+     * @param tradutor
+     *            Tradutor utilizado para traduzir as palavras.
+     */
+    public TraducaoDeTexto(Tradutor tradutor) {
+        this.tradutor = tradutor;
+    }
+
+    /**
+     * Método responsável por traduzir um texto. A escrita é feita na thread atual, à medida que os blocos são
+     * traduzidos; o texto não é carregado por completo em memória.
+     * 
+     * @param entrada
+     *            Texto a ser traduzido. Não é fechado ao final.
+     * 
+     * @param saida
+     *            Destino do texto traduzido. Não é fechado ao final.
+     * 
+     * @return A quantidade de palavras traduzidas.
+     * 
+     * @throws IOException
+     *             Caso não seja possível ler o texto ou escrever o texto traduzido.
+     */
+    public long traduzir(Reader entrada, Writer saida) throws IOException {
+        final BlockingQueue<Bloco> separados = new ArrayBlockingQueue<>(CAPACIDADE_DA_FILA);
+        final BlockingQueue<Bloco> traduzidos = new ArrayBlockingQueue<>(CAPACIDADE_DA_FILA);
+        final ExecutorService executor = Executors.newFixedThreadPool(2, tarefa -> {
+            Thread thread = new Thread(tarefa, "traducao-de-texto");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        try {
+            Future<?> separacao = executor.submit(() -> {
+                this.separar(entrada, separados);
+                return null;
+            });
+
+            Future<?> pesquisa = executor.submit(() -> {
+                this.pesquisar(separados, traduzidos);
+                return null;
+            });
+
+            long palavrasTraduzidas = 0;
+
+            for (Bloco bloco = traduzidos.take(); bloco != FIM; bloco = traduzidos.take()) {
+                palavrasTraduzidas += bloco.escrever(saida);
+
+                // Descarrega a saída sempre que não há outro bloco pronto, para que a tradução de uma entrada interativa
+                // apareça sem esperar o fim do texto.
+                if (traduzidos.isEmpty()) {
+                    saida.flush();
+                }
+            }
+
+            saida.flush();
+
+            // A pesquisa é verificada primeiro, pois uma falha nela pode deixar a separação bloqueada em uma fila cheia.
+            pesquisa.get();
+            separacao.get();
+
+            return palavrasTraduzidas;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("A tradução do texto foi interrompida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IllegalStateException("Não foi possível traduzir o texto", e.getCause());
+        } finally {
+            // Interrompe as etapas que ainda aguardam em uma fila, por exemplo após uma falha na escrita; cada etapa
+            // interrompida sinaliza o fim sem bloquear.
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Método responsável por ler o texto e separá-lo em blocos de palavras e separadores. Uma palavra é uma sequência de
+     * letras, dígitos, apóstrofos e hífens, sem apóstrofos e hífens nas pontas; qualquer outro caractere é um separador.
+     * 
+     * @param entrada
+     *            Texto a ser separado.
+     * 
+     * @param separados
+     *            Fila onde são colocados os blocos separados, seguidos do bloco de fim.
+     * 
+     * @throws IOException
+     *             Caso não seja possível ler o texto.
+     * 
+     * @throws InterruptedException
+     *             Caso a tradução seja interrompida.
+     */
+    protected void separar(Reader entrada, BlockingQueue<Bloco> separados) throws IOException, InterruptedException {
+        final char[] buffer = new char[TAMANHO_DO_BUFFER];
+        final StringBuilder parte = new StringBuilder();
+        boolean ehPalavra = false, ehLonga = false, concluida = false;
+        Bloco bloco = new Bloco();
+
+        try {
+            for (int lidos = entrada.read(buffer); lidos != -1; lidos = entrada.read(buffer)) {
+                for (int i = 0; i < lidos; i++) {
+                    final char caractere = buffer[i];
+                    final boolean caractereDePalavra = Character.isLetterOrDigit(caractere) || caractere == '\'' || caractere == '-';
+
+                    if (parte.length() > 0 && caractereDePalavra != ehPalavra) {
+                        bloco.adicionar(parte.toString(), ehPalavra && !ehLonga);
+                        parte.setLength(0);
+
+                        if (bloco.estaCheio()) {
+                            separados.put(bloco);
+                            bloco = new Bloco();
+                        }
+                    }
+
+                    if (caractereDePalavra != ehPalavra) {
+                        ehPalavra = caractereDePalavra;
+                        ehLonga = false;
+                    }
+
+                    parte.append(caractere);
+
+                    // Palavras muito longas não são traduzidas, e partes do tamanho do buffer são enviadas em pedaços,
+                    // limitando a memória utilizada por parte.
+                    if (parte.length() > TAMANHO_MAXIMO_DA_PALAVRA) {
+                        ehLonga = true;
+
+                        if (parte.length() >= TAMANHO_DO_BUFFER) {
+                            bloco.adicionar(parte.toString(), false);
+                            parte.setLength(0);
+                        }
+                    }
+                }
+
+                // Sem mais texto disponível no momento, envia o que já foi separado, sem a última parte que pode
+                // continuar na próxima leitura.
+                if (!bloco.estaVazio() && !entrada.ready()) {
+                    separados.put(bloco);
+                    bloco = new Bloco();
+                }
+            }
+
+            if (parte.length() > 0) {
+                bloco.adicionar(parte.toString(), ehPalavra && !ehLonga);
+            }
+
+            if (!bloco.estaVazio()) {
+                separados.put(bloco);
+            }
+
+            separados.put(FIM);
+            concluida = true;
+        } finally {
+            if (!concluida) {
+                TraducaoDeTexto.encerrar(separados);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por pesquisar as traduções das palavras de cada bloco, em lote.
+     * 
+     * @param separados
+     *            Fila de blocos separados, terminada pelo bloco de fim.
+     * 
+     * @param traduzidos
+     *            Fila onde são colocados os blocos traduzidos, seguidos do bloco de fim.
+     * 
+     * @throws InterruptedException
+     *             Caso a tradução seja interrompida.
+     */
+    protected void pesquisar(BlockingQueue<Bloco> separados, BlockingQueue<Bloco> traduzidos) throws InterruptedException {
+        boolean concluida = false;
+
+        try {
+            for (Bloco bloco = separados.take(); bloco != FIM; bloco = separados.take()) {
+                bloco.traducoes = tradutor.traduzPalavras(bloco.pesquisas);
+
+                traduzidos.put(bloco);
+            }
+
+            traduzidos.put(FIM);
+            concluida = true;
+        } finally {
+            if (!concluida) {
+                TraducaoDeTexto.encerrar(traduzidos);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por sinalizar o fim do texto após uma falha ou interrupção de uma etapa. Os blocos pendentes são
+     * descartados, de forma que o bloco de fim sempre cabe na fila, sem bloquear, mesmo que a próxima etapa tenha
+     * deixado de consumi-la. A etapa que falhou é a única que escreve na fila.
+     * 
+     * @param fila
+     *            Fila da próxima etapa.
+     */
+    private static void encerrar(BlockingQueue<Bloco> fila) {
+        fila.clear();
+        fila.offer(FIM);
+    }
+
+    /**
+     * Bloco de texto trocado entre as etapas da tradução.
+     * 
+     * @author leonardo.carmona
+     * 
+     */
+    protected static class Bloco {
+
+        /**
+         * Partes do texto, na ordem em que aparecem.
+         */
+        private final List<String>        partes    = new ArrayList<>();
+
+        /**
+         * Palavras normalizadas de cada parte, ou null para os separadores.
+         */
+        private final List<String>        palavras  = new ArrayList<>();
+
+        /**
+         * Palavras normalizadas do bloco, sem os separadores, a serem pesquisadas.
+         */
+        private final List<String>        pesquisas = new ArrayList<>();
+
+        /**
+         * Traduções das palavras normalizadas, preenchidas pela etapa de pesquisa.
+         */
+        private Map<String, List<String>> traducoes = Collections.emptyMap();
+
+        /**
+         * Método responsável por adicionar uma parte ao bloco. Os apóstrofos e hífens no início e no fim de uma palavra,
+         * como em "'be'" ou "-be", são separados dela e mantidos como estão; somente os do meio, como em "don't", fazem
+         * parte da palavra pesquisada.
+         * 
+         * @param parte
+         *            Parte do texto.
+         * 
+         * @param ehPalavra
+         *            Se true, a parte é uma palavra a ser traduzida. Caso contrário, false.
+         */
+        protected void adicionar(String parte, boolean ehPalavra) {
+            if (!ehPalavra) {
+                this.adicionarParte(parte, null);
+                return;
+            }
+
+            int inicio = 0, fim = parte.length();
+
+            while (inicio < fim && !Character.isLetterOrDigit(parte.charAt(inicio))) {
+                inicio++;
+            }
+
+            while (fim > inicio && !Character.isLetterOrDigit(parte.charAt(fim - 1))) {
+                fim--;
+            }
+
+            if (inicio == fim) {
+                this.adicionarParte(parte, null);
+                return;
+            }
+
+            if (inicio > 0) {
+                this.adicionarParte(parte.substring(0, inicio), null);
+            }
+
+            final String palavra = parte.substring(inicio, fim);
+
+            // Independe do locale padrão: no turco, "I" se tornaria o "ı" sem ponto, diferente de "i" para o COLLATOR.
+            this.adicionarParte(palavra, palavra.toLowerCase(Locale.ROOT));
+
+            if (fim < parte.length()) {
+                this.adicionarParte(parte.substring(fim), null);
+            }
+        }
+
+        /**
+         * Método responsável por adicionar uma parte e a sua palavra normalizada ao bloco.
+         * 
+         * @param parte
+         *            Parte do texto.
+         * 
+         * @param palavra
+         *            Palavra normalizada a ser pesquisada, ou null para os separadores.
+         */
+        private void adicionarParte(String parte, String palavra) {
+            partes.add(parte);
+            palavras.add(palavra);
+
+            if (palavra != null) {
+                pesquisas.add(palavra);
+            }
+        }
+
+        /**
+         * @return Se true, o bloco atingiu a quantidade máxima de partes. Caso contrário, false.
+         */
+        protected boolean estaCheio() {
+            return partes.size() >= PARTES_POR_BLOCO;
+        }
+
+        /**
+         * @return Se true, o bloco não possui partes. Caso contrário, false.
+         */
+        protected boolean estaVazio() {
+            return partes.isEmpty();
+        }
+
+        /**
+         * Método responsável por escrever o bloco traduzido.
+         * 
+         * @param saida
+         *            Destino do texto traduzido.
+         * 
+         * @return A quantidade de palavras traduzidas.
+         * 
+         * @throws IOException
+         *             Caso não seja possível escrever o texto.
+         */
+        protected int escrever(Writer saida) throws IOException {
+            int palavrasTraduzidas = 0;
+
+            for (int i = 0; i < partes.size(); i++) {
+                List<String> definicoes = palavras.get(i) == null ? null : traducoes.get(palavras.get(i));
+
+                if (definicoes == null || definicoes.isEmpty()) {
+                    saida.write(partes.get(i));
+                } else {
+                    saida.write(definicoes.get(0));
+                    palavrasTraduzidas++;
+                }
+            }
+
+            return palavrasTraduzidas;
+        }
+
+    }
+
+}
@@ -1,18 +1,44 @@
 package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.CollationKey;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-
-import org.apache.commons.io.FileUtils;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
 
 /**
  * Classe responsável por traduzir as palavras de uma {@link ArvoreAvl} de {@link Dicionario}.
+ * <p>
+ * O tradutor pode ser compartilhado entre várias threads. As traduções são feitas com leitura otimista, sem bloquear
+ * outras leituras, e só aguardam quando uma escrita concorrente invalida a leitura.
  * 
  * @author leonardo.carmona
  * 
@@ -21,13 +47,81 @@ import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
  */
 public class Tradutor implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long     serialVersionUID             = 1L;
+
+    /**
+     * Tamanho do buffer de leitura do arquivo de dicionário.
+     */
+    private static final int      TAMANHO_DO_BUFFER            = 64 * 1024;
+
+    /**
+     * Quantidade de linhas carregadas entre cada informe de progresso.
+     */
+    private static final int      INTERVALO_DE_PROGRESSO       = 100_000;
+
+    /**
+     * Tamanho do buffer de escrita do arquivo de dicionário.
+     */
+    private static final int      TAMANHO_DO_BUFFER_DE_ESCRITA = 1024 * 1024;
+
+    /**
+     * Quantidade de caracteres acumulados antes de cada escrita no arquivo de dicionário.
+     */
+    private static final int      TAMANHO_DO_BLOCO_DE_ESCRITA  = 256 * 1024;
+
+    /**
+     * Marcadores das primeiras traduções, criados uma só vez para o salvamento. A posição 0 não é utilizada.
+     */
+    private static final String[] MARCADORES_DAS_TRADUCOES     = new String[32];
+
+    /**
+     * Tamanho estimado, em bytes, de cada entrada do índice de pesquisa: um nodo do {@link ConcurrentHashMap} com
+     * referências comprimidas. As chaves e os dicionários pertencem à árvore e não são contabilizados.
+     */
+    private static final int      TAMANHO_DA_ENTRADA_DO_INDICE = 32;
+
+    /**
+     * Tamanho estimado, em bytes, de cada posição da tabela do índice de pesquisa.
+     */
+    private static final int      TAMANHO_DA_POSICAO_DO_INDICE = 4;
+
+    static {
+        for (int i = 1; i < MARCADORES_DAS_TRADUCOES.length; i++) {
+            MARCADORES_DAS_TRADUCOES[i] = AnalisadorDeLinha.INICIO_DO_MARCADOR_DA_TRADUCAO + i + ">";
+        }
+    }
 
     /**
      * Árvore AVl de tradução.
      */
     protected ArvoreAvl       arvore;
 
+    /**
+     * Trava responsável por coordenar as leituras e escritas concorrentes da árvore.
+     */
+    private transient StampedLock trava = new StampedLock();
+
+    /**
+     * Índice de pesquisa exata, opcional, das palavras pela chave de comparação. Responde as traduções em tempo
+     * constante, enquanto a árvore continua sendo a fonte das pesquisas ordenadas. Null caso esteja desabilitado.
+     */
+    private transient Map<CollationKey, Dicionario> indice;
+
+    /**
+     * Se true, o índice de pesquisa está habilitado e é recriado após a desserialização. Caso contrário, false.
+     */
+    private boolean           indiceHabilitado;
+
+    /**
+     * Cache opcional das traduções das palavras mais pesquisadas. Null caso esteja desabilitado.
+     */
+    private transient volatile CacheDeTraducoes cache;
+
+    /**
+     * Capacidade do cache de traduções, utilizada para recriá-lo após a desserialização, ou 0 caso esteja desabilitado.
+     */
+    private int               capacidadeDoCache;
+
     /**
      * Construtor responsável por inicializar o tradutor a partir de um arquivo.
      * 
@@ -53,10 +147,117 @@ public class Tradutor implements Serializable {
      * @param palavra
      *            Palavra a ser traduzida.
      * 
-     * @return As traduções da palavra desejada.
+     * @return As traduções da palavra desejada, em uma lista não modificável. Caso a palavra não exista, retorna uma
+     *         lista vazia compartilhada.
      */
     public List<String> traduzPalavra(String palavra) {
-        return arvore.pesquisarDicionarioPelaPalavra(palavra).getDefinicoes();
+        final CacheDeTraducoes cache = this.cache;
+
+        if (cache == null) {
+            final CollationKey chave = Dicionario.Utils.gerarChave(palavra);
+
+            return this.ler(() -> this.copiarDefinicoes(this.pesquisarDicionario(chave)));
+        }
+
+        List<String> definicoes = cache.pesquisar(palavra);
+
+        if (definicoes == null) {
+            // A geração é lida antes da pesquisa, para que uma tradução alterada durante a pesquisa não seja guardada.
+            final long geracao = cache.getGeracao();
+            final CollationKey chave = Dicionario.Utils.gerarChave(palavra);
+
+            definicoes = this.ler(() -> this.copiarDefinicoes(this.pesquisarDicionario(chave)));
+
+            cache.adicionar(palavra, chave, definicoes, geracao);
+        }
+
+        return definicoes;
+    }
+
+    /**
+     * Método responsável por traduzir várias palavras de uma só vez. As palavras são ordenadas e as repetidas são
+     * descartadas, de forma que todas sejam resolvidas em um único percurso da árvore.
+     * 
+     * @param palavras
+     *            Palavras a serem traduzidas.
+     * 
+     * @return As traduções de cada palavra distinta, na ordem em que aparecem, em listas não modificáveis. As palavras
+     *         sem tradução são associadas a uma lista vazia.
+     */
+    public Map<String, List<String>> traduzPalavras(Collection<String> palavras) {
+        final List<String> palavrasDistintas = new ArrayList<>(new LinkedHashSet<>(palavras));
+        final Integer[] ordem = new Integer[palavrasDistintas.size()];
+        final CollationKey[] chavesDasPalavras = new CollationKey[ordem.length];
+        final int[] indiceDaChave = new int[ordem.length];
+        final List<CollationKey> chaves = new ArrayList<>();
+
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = i;
+            chavesDasPalavras[i] = Dicionario.Utils.gerarChave(palavrasDistintas.get(i));
+        }
+
+        // Ordena as chaves na ordem da árvore (da maior para a menor) e descarta as equivalentes, como "Be" e "be".
+        Arrays.sort(ordem, (indice, outro) -> chavesDasPalavras[outro].compareTo(chavesDasPalavras[indice]));
+
+        for (Integer indice : ordem) {
+            if (chaves.isEmpty() || chaves.get(chaves.size() - 1).compareTo(chavesDasPalavras[indice]) != 0) {
+                chaves.add(chavesDasPalavras[indice]);
+            }
+
+            indiceDaChave[indice] = chaves.size() - 1;
+        }
+
+        final List<List<String>> traducoes = this.ler(() -> {
+            List<List<String>> definicoes = new ArrayList<>(chaves.size());
+
+            if (indice != null) {
+                for (CollationKey chave : chaves) {
+                    definicoes.add(this.copiarDefinicoes(indice.get(chave)));
+                }
+            } else {
+                for (Dicionario dicionario : arvore.pesquisarDicionariosPelasChaves(chaves.toArray(new CollationKey[0]))) {
+                    definicoes.add(this.copiarDefinicoes(dicionario));
+                }
+            }
+
+            return definicoes;
+        });
+
+        Map<String, List<String>> resultado = new LinkedHashMap<>();
+
+        for (int i = 0; i < palavrasDistintas.size(); i++) {
+            resultado.put(palavrasDistintas.get(i), traducoes.get(indiceDaChave[i]));
+        }
+
+        return resultado;
+    }
+
+    /**
+     * Método responsável por sugerir as palavras que começam com um prefixo, para o preenchimento automático. Ignora
+     * acentos e letras maiúsculas e minusculas.
+     * 
+     * @param prefixo
+     *            Início das palavras desejadas.
+     * 
+     * @param quantidade
+     *            Quantidade máxima de palavras sugeridas. Uma quantidade zero ou negativa resulta em uma lista vazia.
+     * 
+     * @return As primeiras palavras, em ordem alfabética, que começam com o prefixo.
+     */
+    public List<String> sugerePalavras(String prefixo, int quantidade) {
+        long carimbo = trava.readLock();
+
+        try {
+            List<String> palavras = new ArrayList<>();
+
+            for (Dicionario dicionario : arvore.pesquisarDicionariosPeloPrefixo(prefixo, quantidade)) {
+                palavras.add(dicionario.getPalavra());
+            }
+
+            return palavras;
+        } finally {
+            trava.unlockRead(carimbo);
+        }
     }
 
     /**
@@ -69,107 +270,779 @@ public class Tradutor implements Serializable {
      *            Respectivas definições.
      */
     public void insereTraducao(String palavra, List<String> definicoes) {
-        this.arvore.adicionar(new Dicionario(palavra, definicoes));
+        Dicionario dicionario = new Dicionario(palavra, definicoes);
+        long carimbo = trava.writeLock();
+
+        try {
+            this.indexar(this.arvore.adicionar(dicionario));
+            this.invalidarCache(dicionario.getChave());
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por inserir vários dicionários de uma só vez. Se o tradutor estiver vazio, a árvore é construída
+     * diretamente a partir dos dicionários (em tempo linear, caso estejam ordenados). Caso contrário, os dicionários são
+     * ordenados e intercalados com o conteúdo atual, unificando as definições das palavras existentes, e a árvore é
+     * reconstruída.
+     * 
+     * @param dicionarios
+     *            Dicionários a serem inseridos. A lista pode ser reordenada.
+     */
+    protected void construir(List<Dicionario> dicionarios) {
+        this.construir(dicionarios, false);
+    }
+
+    /**
+     * Método responsável por inserir vários dicionários de uma só vez, como {@link #construir(List)}.
+     * 
+     * @param dicionarios
+     *            Dicionários a serem inseridos. A lista pode ser reordenada.
+     * 
+     * @param ordenados
+     *            Se true, os dicionários já estão na ordem de {@link #getConteudo()} e sem palavras repetidas, e o tradutor
+     *            vazio é construído sem comparar as palavras. Caso contrário, false.
+     */
+    protected void construir(List<Dicionario> dicionarios, boolean ordenados) {
+        long carimbo = trava.writeLock();
+
+        try {
+            if (this.arvore.ehVazia() && ordenados) {
+                this.arvore.construirOrdenado(dicionarios);
+            } else if (this.arvore.ehVazia()) {
+                this.arvore.construir(dicionarios);
+            } else {
+                ArvoreAvl.ordenar(dicionarios);
+                this.arvore.construir(ArvoreAvl.intercalar(this.arvore.getConteudo(), dicionarios));
+            }
+
+            this.reconstruirIndice();
+
+            if (cache != null) {
+                cache.limpar();
+            }
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por remover uma definição de uma palavra. Se a palavra ficar sem definições, ela é removida do
+     * tradutor.
+     * 
+     * @param palavra
+     *            Palavra em inglês.
+     * 
+     * @param definicao
+     *            Definição a ser removida.
+     * 
+     * @return True se a definição foi removida. Caso contrário, false.
+     */
+    public boolean removeDefinicao(String palavra, String definicao) {
+        long carimbo = trava.writeLock();
+
+        try {
+            Dicionario dicionario = this.arvore.pesquisarDicionarioPelaChave(Dicionario.Utils.gerarChave(palavra));
+
+            if (dicionario == null || !dicionario.removerDefinicao(definicao)) {
+                return false;
+            }
+
+            this.invalidarCache(dicionario.getChave());
+
+            if (!dicionario.possuiDefinicoes()) {
+                this.arvore.remover(dicionario.getPalavra());
+                this.desindexar(dicionario);
+            }
+
+            return true;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por remover uma palavra e todas as suas definições.
+     * 
+     * @param palavra
+     *            Palavra em inglês.
+     * 
+     * @return True se a palavra foi removida. Caso contrário, false.
+     */
+    public boolean removePalavra(String palavra) {
+        long carimbo = trava.writeLock();
+
+        try {
+            Dicionario removido = this.arvore.remover(palavra);
+
+            if (removido == null) {
+                return false;
+            }
+
+            this.desindexar(removido);
+            this.invalidarCache(removido.getChave());
+
+            return true;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por habilitar o índice de pesquisa exata, criado a partir das palavras existentes. Com o índice,
+     * as traduções são respondidas em tempo constante, ao custo de {@link #getMemoriaDoIndice()} bytes.
+     */
+    public void habilitaIndice() {
+        long carimbo = trava.writeLock();
+
+        try {
+            this.indiceHabilitado = true;
+            this.reconstruirIndice();
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por desabilitar o índice de pesquisa exata, liberando a sua memória. As traduções voltam a ser
+     * pesquisadas na árvore.
+     */
+    public void desabilitaIndice() {
+        long carimbo = trava.writeLock();
+
+        try {
+            this.indiceHabilitado = false;
+            this.indice = null;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por estimar a memória utilizada pelo índice de pesquisa exata, além da memória da árvore.
+     * 
+     * @return A memória estimada do índice, em bytes, ou 0 caso o índice esteja desabilitado.
+     */
+    public long getMemoriaDoIndice() {
+        long carimbo = trava.readLock();
+
+        try {
+            if (indice == null) {
+                return 0L;
+            }
+
+            // A tabela do ConcurrentHashMap é uma potência de 2 mantida com ocupação de até 75%.
+            final long posicoes = Math.max(16L, Long.highestOneBit(indice.size() * 4L / 3L + 1L) << 1);
+
+            return indice.size() * (long) TAMANHO_DA_ENTRADA_DO_INDICE + posicoes * TAMANHO_DA_POSICAO_DO_INDICE;
+        } finally {
+            trava.unlockRead(carimbo);
+        }
     }
-    
+
+    /**
+     * Método responsável por habilitar o cache de traduções, substituindo o cache atual.
+     * 
+     * @param capacidade
+     *            Quantidade máxima de palavras guardadas no cache.
+     * 
+     * @see CacheDeTraducoes
+     */
+    public void habilitaCache(int capacidade) {
+        long carimbo = trava.writeLock();
+
+        try {
+            this.cache = new CacheDeTraducoes(capacidade);
+            this.capacidadeDoCache = capacidade;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por desabilitar o cache de traduções, liberando a sua memória.
+     */
+    public void desabilitaCache() {
+        long carimbo = trava.writeLock();
+
+        try {
+            this.cache = null;
+            this.capacidadeDoCache = 0;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * @return O cache de traduções, com os contadores de acertos, falhas e remoções, ou null caso esteja desabilitado.
+     */
+    public CacheDeTraducoes getCache() {
+        return cache;
+    }
+
+    /**
+     * Método responsável por resgatar a quantidade de palavras do tradutor, em tempo constante.
+     * 
+     * @return A quantidade de palavras.
+     */
+    public int getQuantidade() {
+        return this.ler(() -> arvore.getQuantidade());
+    }
+
+    /**
+     * Método responsável por resgatar a posição de uma palavra na ordem de {@link #getConteudo()}.
+     * 
+     * @param palavra
+     *            Palavra desejada.
+     * 
+     * @return A posição da palavra, se existir. Caso contrário, um valor negativo.
+     * 
+     * @see ArvoreAvl#getPosicao(String)
+     */
+    public int getPosicao(String palavra) {
+        long carimbo = trava.readLock();
+
+        try {
+            return arvore.getPosicao(palavra);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por resgatar uma página do conteúdo do tradutor, na ordem de {@link #getConteudo()}, sem
+     * percorrer as páginas anteriores.
+     * 
+     * @param inicio
+     *            Posição do primeiro dicionário da página.
+     * 
+     * @param quantidade
+     *            Quantidade máxima de dicionários da página.
+     * 
+     * @return Os dicionários da página.
+     */
+    public List<Dicionario> getConteudo(int inicio, int quantidade) {
+        long carimbo = trava.readLock();
+
+        try {
+            return arvore.getConteudo(inicio, quantidade);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
     /**
      * Método responsável por resgatar o conteúdo da árvore em ordem.
      * 
      * @return Todo o conteúdo da árvore em ordem.
      */
     public List<Dicionario> getConteudo() {
-        return arvore.getConteudo();
+        long carimbo = trava.readLock();
+
+        try {
+            return arvore.getConteudo();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer todos os dicionários em ordem, na mesma ordem de {@link #getConteudo()}, sem
+     * copiar o conteúdo do tradutor. As escritas aguardam o fim do percurso.
+     * 
+     * @param acao
+     *            Ação executada para cada dicionário. Não deve alterar o tradutor.
+     */
+    public void percorreDicionario(Consumer<? super Dicionario> acao) {
+        long carimbo = trava.readLock();
+
+        try {
+            this.arvore.forEach(acao);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer, em ordem alfabética, os dicionários das palavras entre duas palavras. As
+     * escritas aguardam o fim do percurso.
+     * 
+     * @param primeiraPalavra
+     *            Início do intervalo (inclusivo), ou null para começar pela menor palavra.
+     * 
+     * @param palavraFinal
+     *            Fim do intervalo (exclusivo), ou null para terminar na maior palavra.
+     * 
+     * @param acao
+     *            Ação executada para cada dicionário. Não deve alterar o tradutor.
+     * 
+     * @see ArvoreAvl#intervalo(String, String)
+     */
+    public void percorreIntervalo(String primeiraPalavra, String palavraFinal, Consumer<? super Dicionario> acao) {
+        long carimbo = trava.readLock();
+
+        try {
+            this.arvore.intervalo(primeiraPalavra, palavraFinal).forEach(acao);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por normalizar as definições de todas as palavras, em paralelo. As definições são ajustadas
+     * como na inserção, e as palavras que ficarem sem definições são removidas.
+     * 
+     * @return A quantidade de palavras com definições alteradas.
+     * 
+     * @see Dicionario.Utils#ajustarDefinicoes(List)
+     */
+    public long normalizaDefinicoes() {
+        long carimbo = trava.writeLock();
+
+        try {
+            final Queue<Dicionario> semDefinicoes = new ConcurrentLinkedQueue<>();
+            final long alteradas = this.arvore.parallelStream().filter(dicionario -> {
+                List<String> definicoes = dicionario.getDefinicoes();
+
+                dicionario.setDefinicoes(definicoes);
+
+                if (!dicionario.possuiDefinicoes()) {
+                    semDefinicoes.add(dicionario);
+                }
+
+                return !definicoes.equals(dicionario.getDefinicoes());
+            }).count();
+
+            // A estrutura da árvore só é alterada após o percurso.
+            for (Dicionario dicionario : semDefinicoes) {
+                this.arvore.remover(dicionario.getPalavra());
+                this.desindexar(dicionario);
+            }
+
+            if (cache != null && alteradas > 0) {
+                cache.limpar();
+            }
+
+            return alteradas;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
     }
 
     /**
-     * Método responsável por salvar o arquivo de dicionário.
+     * Método responsável por salvar o arquivo de dicionário, codificado em UTF-8. Os dicionários são escritos durante o
+     * percurso em ordem da árvore, sem copiá-la, em um arquivo temporário na mesma pasta do destino. O destino só é
+     * substituído, por uma renomeação atômica, depois que o arquivo temporário é escrito por completo; assim, uma falha
+     * durante o salvamento nunca corrompe o dicionário anterior, e o arquivo temporário é sempre removido.
      * 
      * @param arq
      *            Arquivo onde será salvo o dicionário.
      */
     public void salvaDicionario(String arq) {
-        FileWriter fw = null;
+        final File arquivo = new File(arq).getAbsoluteFile();
+        final File caminho = arquivo.getParentFile();
+        File temporario = null;
+        boolean movido = false;
 
         try {
-            File arquivo = new File(arq);
-            File caminho = arquivo.getParentFile();
-
             if (caminho != null) {
                 caminho.mkdirs();
             }
 
-            fw = new FileWriter(arquivo);
-            List<Dicionario> conteudo = this.arvore.getConteudo();
+            temporario = File.createTempFile("." + arquivo.getName() + ".", ".tmp", caminho);
 
-            for (Dicionario dicionario : conteudo) {
-                StringBuilder linha = new StringBuilder("<palavra_ingles>").append(dicionario.getPalavra());
-                int contador = 1;
+            try (FileOutputStream saida = new FileOutputStream(temporario);
+                    Writer escritor = new OutputStreamWriter(new BufferedOutputStream(saida, TAMANHO_DO_BUFFER_DE_ESCRITA), StandardCharsets.UTF_8)) {
+                final StringBuilder bloco = new StringBuilder(TAMANHO_DO_BLOCO_DE_ESCRITA + TAMANHO_DO_BUFFER);
+                final char[] caracteres = new char[bloco.capacity()];
+                long carimbo = trava.readLock();
 
-                for (String traducao : dicionario.getDefinicoes()) {
-                    linha.append("<traducao").append(contador++).append(">").append(traducao);
+                try {
+                    for (Dicionario dicionario : this.arvore) {
+                        Tradutor.escreverLinha(bloco, dicionario);
+
+                        if (bloco.length() >= TAMANHO_DO_BLOCO_DE_ESCRITA) {
+                            Tradutor.escreverBloco(escritor, bloco, caracteres);
+                        }
+                    }
+                } finally {
+                    trava.unlockRead(carimbo);
                 }
 
-                fw.write(linha.append("\n").toString());
+                Tradutor.escreverBloco(escritor, bloco, caracteres);
+                escritor.flush();
+                saida.getFD().sync();
+            }
+
+            try {
+                Files.move(temporario.toPath(), arquivo.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporario.toPath(), arquivo.toPath(), StandardCopyOption.REPLACE_EXISTING);
             }
+
+            movido = true;
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage(), e);
         } finally {
-            if (fw != null) {
-                try {
-                    fw.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+            if (temporario != null && !movido) {
+                temporario.delete();
             }
         }
     }
 
     /**
-     * Método responsável por carregar o dicionário para a árvore AVL.
+     * Método responsável por acrescentar a linha de um dicionário ao bloco de escrita.
+     * 
+     * @param bloco
+     *            Bloco de escrita, reaproveitado entre as linhas.
+     * 
+     * @param dicionario
+     *            Dicionário a ser escrito.
+     */
+    private static void escreverLinha(StringBuilder bloco, Dicionario dicionario) {
+        int contador = 1;
+
+        bloco.append(AnalisadorDeLinha.MARCADOR_DA_PALAVRA).append(dicionario.getPalavra());
+
+        for (String traducao : dicionario.getDefinicoes()) {
+            if (contador < MARCADORES_DAS_TRADUCOES.length) {
+                bloco.append(MARCADORES_DAS_TRADUCOES[contador]);
+            } else {
+                bloco.append(AnalisadorDeLinha.INICIO_DO_MARCADOR_DA_TRADUCAO).append(contador).append('>');
+            }
+
+            bloco.append(traducao);
+            contador++;
+        }
+
+        bloco.append('\n');
+    }
+
+    /**
+     * Método responsável por escrever e esvaziar o bloco de escrita. Codificar um bloco grande de uma só vez evita o
+     * custo de uma chamada ao escritor por parte de cada linha.
+     * 
+     * @param escritor
+     *            Destino do bloco.
+     * 
+     * @param bloco
+     *            Bloco de escrita.
+     * 
+     * @param caracteres
+     *            Vetor auxiliar, reaproveitado entre os blocos.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de escrita.
+     */
+    private static void escreverBloco(Writer escritor, StringBuilder bloco, char[] caracteres) throws IOException {
+        int inicio = 0;
+
+        // O bloco pode ultrapassar o vetor auxiliar quando uma única linha é muito grande.
+        while (inicio < bloco.length()) {
+            final int fim = Math.min(bloco.length(), inicio + caracteres.length);
+
+            bloco.getChars(inicio, fim, caracteres, 0);
+            escritor.write(caracteres, 0, fim - inicio);
+            inicio = fim;
+        }
+
+        bloco.setLength(0);
+    }
+
+    /**
+     * Método responsável por carregar o dicionário para a árvore AVL. O arquivo é lido linha a linha, sem manter o seu
+     * conteúdo em memória.
      * 
      * @param arq
      *            Nome do arquivo a ser carregado.
      */
     public void carregaDicionario(String arq) {
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(new FileInputStream(arq), StandardCharsets.UTF_8), TAMANHO_DO_BUFFER)) {
+            this.carregaDicionario(leitor);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Método responsável por carregar vários arquivos de dicionário em paralelo, no {@link ForkJoinPool} comum.
+     * 
+     * @param arqs
+     *            Nomes dos arquivos a serem carregados.
+     * 
+     * @see #carregaDicionarios(ForkJoinPool, String...)
+     */
+    public void carregaDicionarios(String... arqs) {
+        this.carregaDicionarios(ForkJoinPool.commonPool(), arqs);
+    }
+
+    /**
+     * Método responsável por carregar vários arquivos de dicionário, ou pedaços de um arquivo grande, em paralelo. Cada
+     * pedaço é lido e ordenado por uma tarefa do executor, e os pedaços ordenados são intercalados com o conteúdo atual.
+     * As definições das palavras repetidas são unificadas na ordem dos arquivos, como se fossem carregados um após o
+     * outro. Caso algum arquivo não possa ser lido, nenhum dicionário é carregado.
+     * 
+     * @param executor
+     *            Executor das tarefas de carregamento.
+     * 
+     * @param arqs
+     *            Nomes dos arquivos a serem carregados.
+     * 
+     * @see CarregamentoParalelo
+     */
+    public void carregaDicionarios(ForkJoinPool executor, String... arqs) {
+        final CarregamentoParalelo carregamento = new CarregamentoParalelo(executor);
+        final List<File> arquivos = new ArrayList<>(arqs.length);
+
+        for (String arq : arqs) {
+            arquivos.add(new File(arq));
+        }
+
         try {
-            int linhaCount = 1;
+            this.construir(carregamento.carregar(arquivos));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
 
-            for (String linha : FileUtils.readLines(new File(arq), "UTF-8")) {
-                Dicionario dicionario = lerLinhaDoArquivo(linha);
+        if (carregamento.getLinhasInvalidas() > 0) {
+            System.err.println("Não foi encontrado uma palavra em inglês em " + carregamento.getLinhasInvalidas() + " linhas");
+        }
+    }
 
-                if (dicionario != null) {
-                    this.insereTraducao(dicionario.getPalavra(), dicionario.getDefinicoes());
+    /**
+     * Método responsável por carregar o dicionário para a árvore AVL a partir de um leitor. Se a árvore estiver vazia,
+     * todas as linhas são lidas antes e a árvore é construída de uma só vez ao final, por {@link #construir(List)}. Caso
+     * contrário, cada linha é inserida assim que for lida. Informa, na saída de erro, o progresso a cada
+     * {@link #INTERVALO_DE_PROGRESSO} linhas e o número das linhas inválidas, para não se misturar ao texto traduzido na
+     * saída padrão.
+     * 
+     * @param leitor
+     *            Leitor do dicionário.
+     * 
+     * @return A quantidade de linhas lidas.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura.
+     */
+    protected long carregaDicionario(BufferedReader leitor) throws IOException {
+        // Com a árvore vazia, os dicionários são acumulados e a árvore é construída de uma só vez ao final.
+        List<Dicionario> dicionarios = this.arvore.ehVazia() ? new ArrayList<>() : null;
+        String linha;
+        long linhaCount = 0;
+
+        while ((linha = leitor.readLine()) != null) {
+            Dicionario dicionario = lerLinhaDoArquivo(linha);
+
+            linhaCount++;
+
+            if (dicionario != null) {
+                if (dicionarios != null) {
+                    dicionarios.add(dicionario);
                 } else {
-                    System.err.println("Não foi encontrado uma palavra em inglês na linha " + linhaCount);
+                    this.insereTraducao(dicionario.getPalavra(), dicionario.getDefinicoes());
                 }
+            } else {
+                System.err.println("Não foi encontrado uma palavra em inglês na linha " + linhaCount);
+            }
+
+            if (linhaCount % INTERVALO_DE_PROGRESSO == 0) {
+                System.err.println("Linhas carregadas: " + linhaCount);
             }
+        }
+
+        if (dicionarios != null) {
+            this.construir(dicionarios);
+        }
+
+        return linhaCount;
+    }
+
+    /**
+     * Método responsável por salvar o dicionário no formato binário.
+     * 
+     * @param arq
+     *            Arquivo onde será salvo o dicionário.
+     * 
+     * @see DicionarioBinario
+     */
+    public void salvaDicionarioBinario(String arq) {
+        long carimbo = trava.readLock();
+
+        try {
+            DicionarioBinario.escrever(this.arvore, new File(arq));
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por carregar o dicionário no formato binário para a árvore AVL. Com o tradutor vazio, a árvore é
+     * construída diretamente a partir dos dicionários lidos, que já estão ordenados e ajustados.
+     * 
+     * @param arq
+     *            Nome do arquivo a ser carregado.
+     * 
+     * @see DicionarioBinario
+     */
+    public void carregaDicionarioBinario(String arq) {
+        try {
+            this.construir(DicionarioBinario.ler(new File(arq)), true);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     protected Dicionario lerLinhaDoArquivo(String linha) {
-        String palavra = Tradutor.Utils.getPalavraEntre(linha, "<palavra_ingles>", "<traducao1>"), traducao, palavraInicio, palavraFim;
-        List<String> definicoes;
-        int traducaoAtual;
+        return AnalisadorDeLinha.analisar(linha);
+    }
 
-        if (palavra == null) {
-            return null;
+    /**
+     * Método responsável por executar uma leitura da árvore. A leitura é feita primeiro de forma otimista, sem bloquear;
+     * caso uma escrita concorrente a invalide, é repetida com a trava de leitura.
+     * 
+     * @param leitura
+     *            Leitura a ser executada. Deve copiar tudo o que for retornado, pois pode ser descartada e repetida.
+     * 
+     * @return O resultado da leitura.
+     */
+    protected <T> T ler(Supplier<T> leitura) {
+        long carimbo = trava.tryOptimisticRead();
+
+        if (carimbo != 0L) {
+            try {
+                T resultado = leitura.get();
+
+                if (trava.validate(carimbo)) {
+                    return resultado;
+                }
+            } catch (RuntimeException e) {
+                // Leitura inconsistente devido a uma escrita concorrente. Repete a leitura com a trava de leitura.
+            }
         }
 
-        definicoes = new ArrayList<>();
-        palavraInicio = "<traducao1>";
-        palavraFim = "<traducao2>";
-        traducaoAtual = 2;
+        carimbo = trava.readLock();
 
-        while ((traducao = Tradutor.Utils.getPalavraEntre(linha, palavraInicio, palavraFim)) != null) {
-            definicoes.add(traducao);
+        try {
+            return leitura.get();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Método responsável por pesquisar o dicionário de uma palavra, pelo índice de pesquisa exata caso esteja habilitado
+     * ou pela árvore.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra.
+     * 
+     * @return O dicionário da palavra, ou null caso a palavra não exista.
+     */
+    protected Dicionario pesquisarDicionario(CollationKey chave) {
+        final Map<CollationKey, Dicionario> indice = this.indice;
+
+        return indice != null ? indice.get(chave) : arvore.pesquisarDicionarioPelaChave(chave);
+    }
+
+    /**
+     * Método responsável por adicionar um dicionário da árvore no índice de pesquisa exata, caso esteja habilitado. Deve
+     * ser chamado com a trava de escrita.
+     * 
+     * @param dicionario
+     *            Dicionário da árvore.
+     */
+    protected void indexar(Dicionario dicionario) {
+        if (indice != null) {
+            indice.putIfAbsent(dicionario.getChave(), dicionario);
+        }
+    }
+
+    /**
+     * Método responsável por remover um dicionário do índice de pesquisa exata, caso esteja habilitado. Deve ser chamado
+     * com a trava de escrita.
+     * 
+     * @param dicionario
+     *            Dicionário removido da árvore.
+     */
+    protected void desindexar(Dicionario dicionario) {
+        if (indice != null) {
+            indice.remove(dicionario.getChave());
+        }
+    }
+
+    /**
+     * Método responsável por invalidar uma palavra no cache de traduções, caso esteja habilitado. Deve ser chamado com a
+     * trava de escrita, após a alteração da palavra.
+     * 
+     * @param chave
+     *            Chave de comparação da palavra alterada.
+     */
+    protected void invalidarCache(CollationKey chave) {
+        if (cache != null) {
+            cache.invalidar(chave);
+        }
+    }
+
+    /**
+     * Método responsável por recriar o índice de pesquisa exata a partir da árvore, caso esteja habilitado. Deve ser
+     * chamado com a trava de escrita.
+     */
+    protected void reconstruirIndice() {
+        if (!indiceHabilitado) {
+            return;
+        }
 
-            palavraInicio = "<traducao" + (traducaoAtual++) + ">";
-            palavraFim = "<traducao" + traducaoAtual + ">";
+        final List<Dicionario> conteudo = arvore.getConteudo();
+        final Map<CollationKey, Dicionario> novoIndice = new ConcurrentHashMap<>(conteudo.size());
+
+        for (Dicionario dicionario : conteudo) {
+            novoIndice.put(dicionario.getChave(), dicionario);
+        }
+
+        this.indice = novoIndice;
+    }
+
+    /**
+     * Método responsável por copiar as definições de um dicionário para uma lista não modificável, desacoplada das
+     * escritas seguintes.
+     * 
+     * @param dicionario
+     *            Dicionário encontrado, ou null caso a palavra não exista.
+     * 
+     * @return As definições do dicionário, ou uma lista vazia compartilhada caso o dicionário não exista.
+     */
+    protected List<String> copiarDefinicoes(Dicionario dicionario) {
+        if (dicionario == null || !dicionario.possuiDefinicoes()) {
+            return Collections.emptyList();
         }
 
-        return new Dicionario(palavra, definicoes);
+        return Collections.unmodifiableList(new ArrayList<>(dicionario.getDefinicoes()));
+    }
+
+    /**
+     * Método responsável por recriar a trava, o índice de pesquisa e o cache de traduções após a desserialização do tradutor.
+     * 
+     * @param entrada
+     *            Fluxo de entrada da desserialização.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura.
+     * 
+     * @throws ClassNotFoundException
+     *             Caso alguma classe serializada não seja encontrada.
+     */
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+
+        this.trava = new StampedLock();
+        this.reconstruirIndice();
+
+        if (capacidadeDoCache > 0) {
+            this.cache = new CacheDeTraducoes(capacidadeDoCache);
+        }
     }
 
     /**
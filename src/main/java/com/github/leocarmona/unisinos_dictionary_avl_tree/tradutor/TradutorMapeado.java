@@ -0,0 +1,228 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tradutor somente leitura que responde as traduções diretamente de um {@link DicionarioBinario dicionário binário}
+ * mapeado em memória, sem carregar os dicionários no heap. A pesquisa é uma busca binária sobre o índice do arquivo,
+ * comparando os bytes das chaves de comparação gravadas; somente as definições retornadas são convertidas em
+ * {@link String}.
+ * <p>
+ * Como o arquivo é mapeado em memória, várias JVMs que utilizam o mesmo arquivo compartilham o cache de páginas do
+ * sistema operacional. O tradutor pode ser utilizado por várias threads ao mesmo tempo.
+ * 
+ * @author leonardo.carmona
+ * 
+ * @see DicionarioBinario
+ * @see Tradutor
+ */
+public class TradutorMapeado {
+
+    /**
+     * Arquivo mapeado em memória. Somente leituras absolutas são feitas, logo o buffer pode ser compartilhado entre
+     * threads.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Quantidade de dicionários do arquivo.
+     */
+    private final int              quantidade;
+
+    /**
+     * Posição do índice no arquivo.
+     */
+    private final int              posicaoDoIndice;
+
+    /**
+     * Construtor responsável por mapear o dicionário binário em memória.
+     * 
+     * @param arq
+     *            Nome do arquivo no formato binário.
+     * 
+     * @throws IOException
+     *             Caso o arquivo não seja um dicionário binário válido, tenha o rodapé corrompido ou ocorra um erro de
+     *             leitura.
+     */
+    public TradutorMapeado(String arq) throws IOException {
+        try (FileChannel canal = FileChannel.open(new File(arq).toPath(), StandardOpenOption.READ)) {
+            this.buffer = DicionarioBinario.mapear(canal);
+            this.posicaoDoIndice = DicionarioBinario.validarRodape(buffer);
+            this.quantidade = buffer.getInt(buffer.limit() - DicionarioBinario.TAMANHO_RODAPE);
+        }
+    }
+
+    /**
+     * Método responsável por traduzir uma palavra.
+     * 
+     * @param palavra
+     *            Palavra a ser traduzida.
+     * 
+     * @return As traduções da palavra desejada, em uma lista não modificável.
+     * 
+     * @throws IllegalStateException
+     *             Caso os dados da palavra no arquivo estejam corrompidos.
+     */
+    public List<String> traduzPalavra(String palavra) {
+        final int posicao = this.pesquisarPosicao(Dicionario.Utils.gerarChave(palavra).toByteArray());
+
+        if (posicao < 0) {
+            return Collections.emptyList();
+        }
+
+        // Pula a chave de comparação e a palavra.
+        int atual = this.pularBytes(posicao);
+        atual = this.pularBytes(atual);
+
+        final int quantidadeDeDefinicoes = this.lerTamanho(atual, Integer.BYTES);
+        List<String> definicoes = new ArrayList<>(quantidadeDeDefinicoes);
+        final ByteBuffer leitura = buffer.duplicate();
+        atual += Integer.BYTES;
+
+        for (int i = 0; i < quantidadeDeDefinicoes; i++) {
+            final int tamanho = this.lerTamanho(atual, 1);
+            byte[] bytes = new byte[tamanho];
+
+            leitura.position(atual + Integer.BYTES);
+            leitura.get(bytes);
+
+            definicoes.add(new String(bytes, StandardCharsets.UTF_8));
+            atual += Integer.BYTES + tamanho;
+        }
+
+        return Collections.unmodifiableList(definicoes);
+    }
+
+    /**
+     * Método responsável por resgatar a quantidade de palavras do dicionário.
+     * 
+     * @return A quantidade de palavras do dicionário.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Método responsável por pesquisar a posição de um dicionário no arquivo pela chave de comparação.
+     * 
+     * @param chave
+     *            Bytes da chave de comparação da palavra.
+     * 
+     * @return A posição do dicionário no arquivo, ou -1 caso a palavra não exista.
+     */
+    protected int pesquisarPosicao(byte[] chave) {
+        int inicio = 0, fim = quantidade - 1;
+
+        while (inicio <= fim) {
+            final int meio = (inicio + fim) >>> 1;
+            final long posicaoGravada = buffer.getLong(posicaoDoIndice + meio * Long.BYTES);
+
+            if (posicaoGravada < DicionarioBinario.TAMANHO_CABECALHO || posicaoGravada > posicaoDoIndice - Integer.BYTES) {
+                throw new IllegalStateException("Arquivo corrompido: posição inválida no índice: " + posicaoGravada);
+            }
+
+            final int posicao = (int) posicaoGravada;
+            final int resultadoDaComparacao = this.compararChave(posicao, chave);
+
+            // Os dicionários estão na ordem de Tradutor.getConteudo, ou seja, da maior para a menor palavra.
+            if (resultadoDaComparacao > 0) {
+                inicio = meio + 1;
+            } else if (resultadoDaComparacao < 0) {
+                fim = meio - 1;
+            } else {
+                return posicao;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Método responsável por comparar a chave gravada em uma posição do arquivo com a chave desejada, byte a byte e sem
+     * sinal.
+     * 
+     * @param posicao
+     *            Posição do dicionário no arquivo.
+     * 
+     * @param chave
+     *            Bytes da chave de comparação desejada.
+     * 
+     * @return Um valor negativo se a chave gravada for menor; 0 se igual; um valor positivo se a chave gravada for maior.
+     */
+    protected int compararChave(int posicao, byte[] chave) {
+        final int tamanho = this.lerTamanho(posicao, 1);
+        final int limite = Math.min(tamanho, chave.length);
+        posicao += Integer.BYTES;
+
+        for (int i = 0; i < limite; i++) {
+            final int resultadoDaComparacao = (buffer.get(posicao + i) & 0xFF) - (chave[i] & 0xFF);
+
+            if (resultadoDaComparacao != 0) {
+                return resultadoDaComparacao;
+            }
+        }
+
+        return tamanho - chave.length;
+    }
+
+    /**
+     * Método responsável por ler um tamanho gravado no arquivo, validando que os elementos que ele descreve cabem antes
+     * do índice.
+     * 
+     * @param posicao
+     *            Posição do tamanho no arquivo.
+     * 
+     * @param tamanhoMinimoDoElemento
+     *            Quantidade mínima de bytes de cada elemento descrito pelo tamanho.
+     * 
+     * @return O tamanho lido.
+     * 
+     * @throws IllegalStateException
+     *             Caso o tamanho não caiba no arquivo, o que indica um arquivo corrompido.
+     */
+    private int lerTamanho(int posicao, int tamanhoMinimoDoElemento) {
+        if (posicao < DicionarioBinario.TAMANHO_CABECALHO || posicao > posicaoDoIndice - Integer.BYTES) {
+            throw new IllegalStateException("Arquivo corrompido: posição inválida: " + posicao);
+        }
+
+        final int tamanho = buffer.getInt(posicao);
+
+        if (tamanho < 0 || tamanho > (posicaoDoIndice - posicao - Integer.BYTES) / tamanhoMinimoDoElemento) {
+            throw new IllegalStateException("Arquivo corrompido: tamanho inválido na posição " + posicao + ": " + tamanho);
+        }
+
+        return tamanho;
+    }
+
+    /**
+     * Método responsável por pular um vetor de bytes gravado no arquivo, precedido pelo seu tamanho.
+     * 
+     * @param posicao
+     *            Posição do tamanho no arquivo.
+     * 
+     * @return A posição seguinte ao vetor de bytes.
+     */
+    private int pularBytes(int posicao) {
+        return posicao + Integer.BYTES + this.lerTamanho(posicao, 1);
+    }
+
+    /**
+     * Método responsável por representar o tradutor mapeado.
+     * 
+     * @return A representação do tradutor mapeado.
+     */
+    @Override
+    public String toString() {
+        return "TradutorMapeado [quantidade=" + quantidade + "]";
+    }
+
+}
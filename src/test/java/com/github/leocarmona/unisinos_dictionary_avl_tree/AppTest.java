@@ -0,0 +1,62 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por validar a classe {@link App}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class AppTest {
+
+    // ====================================================================================================
+    // Validações do método App.traduzirTexto
+    // ====================================================================================================
+
+    /**
+     * Valida que, ao traduzir um texto pela linha de comando, a saída padrão recebe somente o texto traduzido, mesmo
+     * quando o carregamento do dicionário informa o seu progresso.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar os arquivos temporários.
+     */
+    @Test
+    public void traduzirTexto_saidaPadraoTest() throws IOException {
+        File dicionario = File.createTempFile("dicionario", ".dat"), texto = File.createTempFile("texto", ".txt");
+        List<String> linhas = new ArrayList<>();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        PrintStream saidaPadrao = System.out;
+
+        try {
+            for (int i = 0; i < 150_000; i++) {
+                linhas.add("<palavra_ingles>word" + i + "<traducao1>palavra" + i);
+            }
+
+            Files.write(dicionario.toPath(), linhas, StandardCharsets.UTF_8);
+            Files.write(texto.toPath(), "Word1 word2, word149999!\nunknown".getBytes(StandardCharsets.UTF_8));
+
+            System.setOut(new PrintStream(saida, true, "UTF-8"));
+
+            Assert.assertTrue(App.traduzirTexto(dicionario, texto));
+        } finally {
+            System.setOut(saidaPadrao);
+
+            dicionario.delete();
+            texto.delete();
+        }
+
+        Assert.assertEquals("palavra1 palavra2, palavra149999!\nunknown", new String(saida.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.arvore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
+import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.DicionarioImutavel;
+
+/**
+ * Classe responsável por testar as classes {@link ArvoreAvlPersistente} e {@link DicionarioImutavel}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class ArvoreAvlPersistenteTest {
+
+    // ====================================================================================================
+    // Validações dos métodos ArvoreAvlPersistente.adicionar e ArvoreAvlPersistente.pesquisarDicionarioPelaPalavra
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar que uma versão resgatada não é alterada pelas adições seguintes.
+     */
+    @Test
+    public void adicionar_getVersaoTest() {
+        ArvoreAvlPersistente avl = new ArvoreAvlPersistente();
+
+        avl.adicionar(new Dicionario("be", new ArrayList<>(Arrays.asList("ser"))));
+        avl.adicionar(new Dicionario("i", new ArrayList<>(Arrays.asList("eu"))));
+
+        DicionarioImutavel versao = avl.getVersao();
+
+        avl.adicionar(new Dicionario("am", new ArrayList<>(Arrays.asList("sou"))));
+        avl.adicionar(new Dicionario("be", new ArrayList<>(Arrays.asList("estar"))));
+
+        Assert.assertNull(ArvoreAvlPersistente.pesquisarDicionarioPelaPalavra(versao, "am"));
+        Assert.assertEquals(Arrays.asList("ser"), ArvoreAvlPersistente.pesquisarDicionarioPelaPalavra(versao, "be").getDefinicoes());
+        Assert.assertEquals(2, ArvoreAvlPersistente.getConteudo(versao).size());
+
+        Assert.assertEquals(Arrays.asList("sou"), avl.pesquisarDicionarioPelaPalavra("AM").getDefinicoes());
+        Assert.assertEquals(Arrays.asList("ser", "estar"), avl.pesquisarDicionarioPelaPalavra("be").getDefinicoes());
+        Assert.assertEquals(3, avl.getConteudo().size());
+    }
+
+    /**
+     * Método responsável por validar o balanceamento e o compartilhamento dos dicionários não alterados entre versões.
+     */
+    @Test
+    public void adicionar_balanceamentoCompartilhamentoTest() {
+        ArvoreAvlPersistente avl = new ArvoreAvlPersistente();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            avl.adicionar(new Dicionario("palavra" + random.nextInt(), new ArrayList<>(Arrays.asList("traducao"))));
+        }
+
+        List<DicionarioImutavel> anterior = avl.getConteudo();
+        avl.adicionar(new Dicionario("nova", new ArrayList<>(Arrays.asList("traducao"))));
+        List<DicionarioImutavel> atual = avl.getConteudo();
+        int compartilhados = 0;
+
+        for (DicionarioImutavel dicionario : atual) {
+            Assert.assertTrue(Math.abs(dicionario.getBalanceamento()) <= 1);
+
+            if (anterior.contains(dicionario)) {
+                compartilhados++;
+            }
+        }
+
+        Assert.assertEquals(anterior.size() + 1, atual.size());
+        Assert.assertTrue(atual.size() - compartilhados <= 2 * (avl.getVersao().getAltura() + 1));
+    }
+
+}
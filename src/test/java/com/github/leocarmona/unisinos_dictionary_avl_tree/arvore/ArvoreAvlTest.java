@@ -1,7 +1,15 @@
 package com.github.leocarmona.unisinos_dictionary_avl_tree.arvore;
 
+import java.text.CollationKey;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -79,4 +87,607 @@ public class ArvoreAvlTest {
         Assert.assertEquals(Arrays.asList(dicionarios[1], dicionarios[0], dicionarios[2]), avl.getConteudo());
     }
 
+    // ====================================================================================================
+    // Validações dos métodos Dicionario.getAltura e Dicionario.getBalanceamento após ArvoreAvl.adicionar
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar que as alturas armazenadas nos dicionários se mantêm corretas e que a altura da
+     * árvore cresce de forma logarítmica, tanto para palavras inseridas em ordem quanto aleatoriamente.
+     */
+    @Test
+    public void adicionar_alturaLogaritmicaTest() {
+        final int quantidade = 100_000;
+        ArvoreAvl emOrdem = new ArvoreAvl(), aleatoria = new ArvoreAvl();
+        Random random = new Random(42);
+
+        for (int i = 0; i < quantidade; i++) {
+            emOrdem.adicionar(new Dicionario(String.format("palavra%06d", i)));
+            aleatoria.adicionar(new Dicionario("palavra" + random.nextInt()));
+        }
+
+        for (ArvoreAvl avl : Arrays.asList(emOrdem, aleatoria)) {
+            List<Dicionario> conteudo = avl.getConteudo();
+
+            // Limite teórico da altura de uma árvore AVL: 1.44 * log2(n + 2).
+            Assert.assertTrue(avl.raiz.getAltura() <= 1.44 * (Math.log(conteudo.size() + 2) / Math.log(2)));
+
+            for (Dicionario dicionario : conteudo) {
+                int alturaEsquerda = dicionario.getEsquerda() == null ? -1 : dicionario.getEsquerda().getAltura();
+                int alturaDireita = dicionario.getDireita() == null ? -1 : dicionario.getDireita().getAltura();
+
+                Assert.assertEquals(1 + Math.max(alturaEsquerda, alturaDireita), dicionario.getAltura());
+                Assert.assertTrue(Math.abs(dicionario.getBalanceamento()) <= 1);
+            }
+        }
+
+        Assert.assertEquals(quantidade, emOrdem.getConteudo().size());
+    }
+
+    // ====================================================================================================
+    // Validações do método ArvoreAvl.construir
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a construção da árvore a partir de dicionários já ordenados.
+     */
+    @Test
+    public void construir_ordenadoTest() {
+        ArvoreAvl origem = new ArvoreAvl(), avl = new ArvoreAvl();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            origem.adicionar(new Dicionario("palavra" + random.nextInt(), new ArrayList<>(Arrays.asList("traducao"))));
+        }
+
+        List<Dicionario> conteudo = origem.getConteudo();
+
+        avl.construir(new ArrayList<>(conteudo));
+
+        Assert.assertEquals(conteudo, avl.getConteudo());
+        Assert.assertNull(avl.raiz.getPai());
+        Assert.assertEquals((int) Math.floor(Math.log(conteudo.size()) / Math.log(2)), avl.raiz.getAltura());
+
+        for (Dicionario dicionario : conteudo) {
+            Assert.assertTrue(Math.abs(dicionario.getBalanceamento()) <= 1);
+            Assert.assertEquals(dicionario, avl.pesquisarDicionarioPelaPalavra(dicionario.getPalavra()));
+        }
+    }
+
+    /**
+     * Método responsável por validar a construção da árvore a partir de dicionários desordenados e repetidos.
+     */
+    @Test
+    public void construir_desordenadoTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+
+        avl.construir(Arrays.asList(
+                new Dicionario("be", new ArrayList<>(Arrays.asList("ser"))),
+                new Dicionario("am", new ArrayList<>(Arrays.asList("sou"))),
+                new Dicionario("i", new ArrayList<>(Arrays.asList("eu"))),
+                new Dicionario("BE", new ArrayList<>(Arrays.asList("estar")))));
+
+        List<Dicionario> conteudo = avl.getConteudo();
+
+        Assert.assertEquals(3, conteudo.size());
+        Assert.assertEquals("i", conteudo.get(0).getPalavra());
+        Assert.assertEquals("be", conteudo.get(1).getPalavra());
+        Assert.assertEquals("am", conteudo.get(2).getPalavra());
+        Assert.assertEquals(Arrays.asList("ser", "estar"), avl.pesquisarDicionarioPelaPalavra("be").getDefinicoes());
+        Assert.assertFalse(avl.ehVazia());
+    }
+
+    // ====================================================================================================
+    // Validações do método ArvoreAvl.remover
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a remoção de dicionários e o balanceamento da árvore após as remoções.
+     */
+    @Test
+    public void removerTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<String> palavras = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            palavras.add(String.format("palavra%05d", i));
+        }
+
+        Collections.shuffle(palavras, random);
+
+        for (String palavra : palavras) {
+            avl.adicionar(new Dicionario(palavra, new ArrayList<>(Arrays.asList("traducao"))));
+        }
+
+        Assert.assertNull(avl.remover("nao encontrado"));
+
+        for (int i = 0; i < palavras.size(); i += 2) {
+            Dicionario removido = avl.remover(palavras.get(i).toUpperCase());
+
+            Assert.assertEquals(palavras.get(i), removido.getPalavra());
+            Assert.assertNull(removido.getPai());
+            Assert.assertNull(removido.getEsquerda());
+            Assert.assertNull(removido.getDireita());
+        }
+
+        List<Dicionario> conteudo = avl.getConteudo();
+
+        Assert.assertEquals(palavras.size() / 2, conteudo.size());
+        Assert.assertNull(avl.raiz.getPai());
+
+        for (int i = 0; i < conteudo.size(); i++) {
+            Dicionario dicionario = conteudo.get(i);
+            int alturaEsquerda = dicionario.getEsquerda() == null ? -1 : dicionario.getEsquerda().getAltura();
+            int alturaDireita = dicionario.getDireita() == null ? -1 : dicionario.getDireita().getAltura();
+
+            Assert.assertEquals(1 + Math.max(alturaEsquerda, alturaDireita), dicionario.getAltura());
+            Assert.assertTrue(Math.abs(dicionario.getBalanceamento()) <= 1);
+
+            if (i > 0) {
+                Assert.assertTrue(conteudo.get(i - 1).compararChave(dicionario.getChave()) > 0);
+            }
+        }
+
+        for (int i = 0; i < palavras.size(); i++) {
+            Assert.assertEquals(i % 2 == 1, avl.pesquisarDicionarioPelaChave(Dicionario.Utils.gerarChave(palavras.get(i))) != null);
+        }
+
+        for (int i = 1; i < palavras.size(); i += 2) {
+            avl.remover(palavras.get(i));
+        }
+
+        Assert.assertTrue(avl.ehVazia());
+    }
+
+    /**
+     * Método responsável por validar a altura, o tamanho e o balanceamento de todos os dicionários após inserções e
+     * remoções intercaladas, em que o balanceamento pode parar antes da raiz.
+     */
+    @Test
+    public void adicionar_remover_balancearTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<String> palavras = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String palavra = String.format("palavra%05d", random.nextInt(5_000));
+
+            if (random.nextInt(3) == 0) {
+                avl.remover(palavra);
+                palavras.remove(palavra);
+            } else if (!palavras.contains(palavra)) {
+                avl.adicionar(new Dicionario(palavra));
+                palavras.add(palavra);
+            }
+
+            if (i % 1_000 == 0) {
+                validarDicionarios(avl, palavras.size());
+            }
+        }
+
+        validarDicionarios(avl, palavras.size());
+    }
+
+    /**
+     * Método responsável por validar que percorrer e representar uma árvore degenerada não estoura a pilha.
+     */
+    @Test
+    public void percorrerEmOrdem_toString_arvoreDegeneradaTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        Dicionario dicionarioAtual = new Dicionario(String.format("palavra%06d", 0));
+
+        avl.raiz = dicionarioAtual;
+
+        // Encadeia os dicionários sem balancear, simulando uma árvore corrompida.
+        for (int i = 1; i < 200_000; i++) {
+            Dicionario direita = new Dicionario(String.format("palavra%06d", i));
+
+            dicionarioAtual.setDireita(direita);
+            direita.setPai(dicionarioAtual);
+            dicionarioAtual = direita;
+        }
+
+        Assert.assertEquals(200_000, avl.getConteudo().size());
+        Assert.assertTrue(avl.toString().length() < 1_000);
+    }
+
+    /**
+     * Método responsável por validar a altura, o tamanho e o balanceamento de todos os dicionários da árvore.
+     * 
+     * @param avl
+     *            Árvore desejada.
+     * 
+     * @param quantidade
+     *            Quantidade esperada de dicionários.
+     */
+    private static void validarDicionarios(ArvoreAvl avl, int quantidade) {
+        List<Dicionario> conteudo = avl.getConteudo();
+
+        Assert.assertEquals(quantidade, conteudo.size());
+        Assert.assertEquals(quantidade, avl.getQuantidade());
+
+        for (Dicionario dicionario : conteudo) {
+            Assert.assertEquals(1 + Math.max(Dicionario.Utils.getAltura(dicionario.getEsquerda()), Dicionario.Utils.getAltura(dicionario.getDireita())),
+                    dicionario.getAltura());
+            Assert.assertEquals(1 + Dicionario.Utils.getTamanho(dicionario.getEsquerda()) + Dicionario.Utils.getTamanho(dicionario.getDireita()),
+                    dicionario.getTamanho());
+            Assert.assertTrue(Math.abs(dicionario.getBalanceamento()) <= 1);
+        }
+
+        if (avl.raiz != null) {
+            Assert.assertNull(avl.raiz.getPai());
+        }
+    }
+
+    // ====================================================================================================
+    // Validações do método ArvoreAvl.pesquisarDicionariosPelasChaves
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a pesquisa de várias chaves em um único percurso, comparando com a pesquisa de cada
+     * chave individualmente.
+     */
+    @Test
+    public void pesquisarDicionariosPelasChavesTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<CollationKey> chaves = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i += 2) {
+            avl.adicionar(new Dicionario(String.format("palavra%04d", i)));
+        }
+
+        Assert.assertNull(new ArvoreAvl().pesquisarDicionariosPelasChaves(new CollationKey[] { Dicionario.Utils.gerarChave("a") })[0]);
+        Assert.assertEquals(0, avl.pesquisarDicionariosPelasChaves(new CollationKey[0]).length);
+
+        for (int i = 1_000; i >= -1; i--) {
+            chaves.add(Dicionario.Utils.gerarChave(String.format("palavra%04d", i)));
+        }
+
+        Dicionario[] dicionarios = avl.pesquisarDicionariosPelasChaves(chaves.toArray(new CollationKey[0]));
+
+        Assert.assertEquals(chaves.size(), dicionarios.length);
+
+        for (int i = 0; i < chaves.size(); i++) {
+            Assert.assertSame(avl.pesquisarDicionarioPelaChave(chaves.get(i)), dicionarios[i]);
+        }
+    }
+
+    /**
+     * Método responsável por validar que um ciclo de dicionários, como o visto por uma leitura concorrente a uma rotação,
+     * interrompe a pesquisa de várias chaves com uma {@link IllegalStateException}, e não com o estouro da pilha.
+     */
+    @Test
+    public void pesquisarDicionariosPelasChaves_cicloTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        Dicionario raiz = new Dicionario("palavra");
+
+        avl.adicionar(raiz);
+        raiz.setEsquerda(raiz);
+        raiz.setDireita(raiz);
+
+        try {
+            avl.pesquisarDicionariosPelasChaves(new CollationKey[] { Dicionario.Utils.gerarChave("zzz"), Dicionario.Utils.gerarChave("aaa") });
+            Assert.fail("O ciclo deve interromper a pesquisa");
+        } catch (IllegalStateException e) {
+            // Esperado.
+        }
+    }
+
+    // ====================================================================================================
+    // Validações do método ArvoreAvl.pesquisarDicionariosPeloPrefixo
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a pesquisa pelo prefixo, ignorando acentos e letras maiúsculas e minúsculas, e
+     * comparando com a filtragem de todo o conteúdo da árvore.
+     */
+    @Test
+    public void pesquisarDicionariosPeloPrefixoTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<String> palavras = new ArrayList<>(Arrays.asList("café", "Cafeteria", "cama", "ca", "c", "b", "caça", "CAFÉS", "d"));
+
+        for (int i = 0; i < 1_000; i++) {
+            palavras.add(String.format("ca%03d", i));
+        }
+
+        Collections.shuffle(palavras, new Random(42));
+
+        for (String palavra : palavras) {
+            avl.adicionar(new Dicionario(palavra));
+        }
+
+        Assert.assertEquals(Arrays.asList("café", "CAFÉS", "Cafeteria"), palavras(avl.pesquisarDicionariosPeloPrefixo("CAFE", 10)));
+        Assert.assertEquals(Arrays.asList("café", "CAFÉS"), palavras(avl.pesquisarDicionariosPeloPrefixo("cafe", 2)));
+        Assert.assertEquals(Arrays.asList("caça"), palavras(avl.pesquisarDicionariosPeloPrefixo("CAC", 10)));
+        Assert.assertEquals(Arrays.asList("d"), palavras(avl.pesquisarDicionariosPeloPrefixo("d", 10)));
+        Assert.assertEquals(Collections.emptyList(), avl.pesquisarDicionariosPeloPrefixo("e", 10));
+        Assert.assertEquals(Collections.emptyList(), avl.pesquisarDicionariosPeloPrefixo("cafez", 10));
+        Assert.assertEquals(Collections.emptyList(), avl.pesquisarDicionariosPeloPrefixo("c", 0));
+        Assert.assertEquals(Collections.emptyList(), avl.pesquisarDicionariosPeloPrefixo("c", -1));
+
+        List<Dicionario> conteudo = avl.getConteudo();
+        List<String> esperado = new ArrayList<>();
+
+        Collections.reverse(conteudo);
+
+        for (Dicionario dicionario : conteudo) {
+            if (dicionario.getPalavra().startsWith("ca0")) {
+                esperado.add(dicionario.getPalavra());
+            }
+        }
+
+        Assert.assertEquals(esperado.subList(0, 50), palavras(avl.pesquisarDicionariosPeloPrefixo("ca0", 50)));
+        Assert.assertEquals(esperado, palavras(avl.pesquisarDicionariosPeloPrefixo("CA0", Integer.MAX_VALUE)));
+        Assert.assertEquals(palavras.size() - 2, avl.pesquisarDicionariosPeloPrefixo("c", Integer.MAX_VALUE).size());
+        Assert.assertEquals(palavras.size(), avl.pesquisarDicionariosPeloPrefixo("", Integer.MAX_VALUE).size());
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos ArvoreAvl.iterator, ArvoreAvl.stream e ArvoreAvl.intervalo
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar os percursos sem cópia do conteúdo, comparando com o método getConteudo.
+     */
+    @Test
+    public void iterator_stream_intervaloTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<String> palavras = new ArrayList<>();
+
+        Assert.assertFalse(avl.iterator().hasNext());
+        Assert.assertFalse(avl.intervalo(null, null).iterator().hasNext());
+
+        for (int i = 0; i < 1_000; i++) {
+            palavras.add(String.format("palavra%03d", i));
+        }
+
+        Collections.shuffle(palavras, new Random(42));
+
+        for (String palavra : palavras) {
+            avl.adicionar(new Dicionario(palavra));
+        }
+
+        List<Dicionario> conteudo = avl.getConteudo();
+        List<Dicionario> iterados = new ArrayList<>();
+
+        avl.forEach(iterados::add);
+
+        Assert.assertEquals(conteudo, iterados);
+        Assert.assertEquals(conteudo, avl.stream().collect(Collectors.toList()));
+
+        Collections.reverse(conteudo);
+        iterados.clear();
+        avl.intervalo(null, null).forEach(iterados::add);
+
+        Assert.assertEquals(conteudo, iterados);
+        Assert.assertEquals(conteudo.subList(100, 200), lista(avl.intervalo("PALAVRA100", "palavra200")));
+        Assert.assertEquals(conteudo.subList(100, 101), lista(avl.intervalo("palavra100", "palavra100a")));
+        Assert.assertEquals(conteudo.subList(0, 10), lista(avl.intervalo("a", "palavra010")));
+        Assert.assertEquals(conteudo.subList(990, 1_000), lista(avl.intervalo("palavra990", null)));
+        Assert.assertEquals(Collections.emptyList(), lista(avl.intervalo("palavra200", "palavra100")));
+        Assert.assertEquals(Collections.emptyList(), lista(avl.intervalo("z", null)));
+
+        Iterator<Dicionario> iterador = avl.intervalo("palavra999", null).iterator();
+
+        iterador.next();
+
+        try {
+            iterador.next();
+            Assert.fail("O iterador deve indicar o fim do percurso");
+        } catch (NoSuchElementException e) {
+            Assert.assertFalse(iterador.hasNext());
+        }
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos ArvoreAvl.spliterator e ArvoreAvl.parallelStream
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar que as divisões do percurso cobrem todos os dicionários uma única vez e na ordem
+     * de getConteudo, para árvores de vários tamanhos.
+     */
+    @Test
+    public void spliterator_parallelStreamTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        Random random = new Random(42);
+
+        for (int tamanho = 0; tamanho <= 2_000; tamanho += 1 + tamanho / 4) {
+            while (avl.getConteudo().size() < tamanho) {
+                avl.adicionar(new Dicionario("palavra" + random.nextInt()));
+            }
+
+            List<Dicionario> conteudo = avl.getConteudo();
+            List<Dicionario> divididos = new ArrayList<>();
+
+            dividir(avl.spliterator(), divididos);
+
+            Assert.assertEquals(conteudo, divididos);
+            Assert.assertEquals(conteudo, avl.parallelStream().collect(Collectors.toList()));
+            Assert.assertEquals(conteudo.size(), avl.parallelStream().count());
+        }
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos ArvoreAvl.getQuantidade, ArvoreAvl.getPosicao e ArvoreAvl.getDicionario
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar o tamanho das subárvores, a posição e o dicionário de cada posição após inserções
+     * e remoções aleatórias, comparando com getConteudo.
+     */
+    @Test
+    public void getQuantidade_getPosicao_getDicionarioTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+        List<String> palavras = new ArrayList<>();
+        Random random = new Random(42);
+
+        Assert.assertEquals(0, avl.getQuantidade());
+        Assert.assertEquals(-1, avl.getPosicao("palavra"));
+
+        for (int i = 0; i < 2_000; i++) {
+            palavras.add(String.format("palavra%04d", i));
+        }
+
+        Collections.shuffle(palavras, random);
+
+        for (String palavra : palavras) {
+            avl.adicionar(new Dicionario(palavra));
+        }
+
+        avl.adicionar(new Dicionario(palavras.get(0).toUpperCase()));
+
+        for (int i = 0; i < palavras.size(); i += 3) {
+            avl.remover(palavras.get(i));
+        }
+
+        List<Dicionario> conteudo = avl.getConteudo();
+
+        Assert.assertEquals(conteudo.size(), avl.getQuantidade());
+
+        for (int i = 0; i < conteudo.size(); i++) {
+            Dicionario dicionario = conteudo.get(i);
+
+            Assert.assertEquals(1 + Dicionario.Utils.getTamanho(dicionario.getEsquerda()) + Dicionario.Utils.getTamanho(dicionario.getDireita()),
+                    dicionario.getTamanho());
+            Assert.assertEquals(i, avl.getPosicao(dicionario.getPalavra()));
+            Assert.assertSame(dicionario, avl.getDicionario(i));
+        }
+
+        // As palavras inexistentes informam onde seriam inseridas, como em Collections.binarySearch.
+        Assert.assertEquals(-conteudo.size() - 1, avl.getPosicao("a"));
+        Assert.assertEquals(-1, avl.getPosicao("z"));
+
+        for (int posicao : new int[] { -1, conteudo.size() }) {
+            try {
+                avl.getDicionario(posicao);
+                Assert.fail("A posição " + posicao + " não existe");
+            } catch (IndexOutOfBoundsException e) {
+                // Esperado.
+            }
+        }
+    }
+
+    /**
+     * Método responsável por validar as páginas do conteúdo da árvore, comparando com partes de getConteudo.
+     */
+    @Test
+    public void getConteudo_paginadoTest() {
+        ArvoreAvl avl = new ArvoreAvl();
+
+        Assert.assertTrue(avl.getConteudo(0, 10).isEmpty());
+
+        for (int i = 0; i < 1_000; i++) {
+            avl.adicionar(new Dicionario(String.format("palavra%04d", i)));
+        }
+
+        List<Dicionario> conteudo = avl.getConteudo();
+
+        for (int inicio = 0; inicio < conteudo.size(); inicio += 37) {
+            Assert.assertEquals(conteudo.subList(inicio, Math.min(inicio + 50, conteudo.size())), avl.getConteudo(inicio, 50));
+        }
+
+        Assert.assertEquals(conteudo, avl.getConteudo(0, Integer.MAX_VALUE));
+        Assert.assertTrue(avl.getConteudo(conteudo.size(), 10).isEmpty());
+        Assert.assertTrue(avl.getConteudo(-1, 10).isEmpty());
+        Assert.assertTrue(avl.getConteudo(0, 0).isEmpty());
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos ArvoreAvl.ordenar e ArvoreAvl.intercalar
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a ordenação e a intercalação de sequências, comparando com a inserção dos mesmos
+     * dicionários, na mesma ordem, em uma única árvore.
+     */
+    @Test
+    public void ordenar_intercalarTest() {
+        Random random = new Random(7);
+        List<Dicionario> primeiros = new ArrayList<>(), segundos = new ArrayList<>();
+        ArvoreAvl esperada = new ArvoreAvl();
+
+        for (int i = 0; i < 2_000; i++) {
+            String palavra = (random.nextBoolean() ? "Palavra" : "palavra") + random.nextInt(500);
+            List<String> definicoes = new ArrayList<>(Arrays.asList("definição " + i, "definição " + random.nextInt(3)));
+
+            (i < 1_000 ? primeiros : segundos).add(new Dicionario(palavra, new ArrayList<>(definicoes)));
+            esperada.adicionar(new Dicionario(palavra, definicoes));
+        }
+
+        ArvoreAvl.ordenar(primeiros);
+        ArvoreAvl.ordenar(segundos);
+
+        List<Dicionario> intercalados = ArvoreAvl.intercalar(primeiros, segundos);
+        List<Dicionario> conteudo = esperada.getConteudo();
+
+        Assert.assertEquals(palavras(conteudo), palavras(intercalados));
+
+        for (int i = 0; i < conteudo.size(); i++) {
+            Assert.assertEquals(conteudo.get(i).getDefinicoes(), intercalados.get(i).getDefinicoes());
+        }
+
+        Assert.assertEquals(primeiros, ArvoreAvl.intercalar(primeiros, new ArrayList<>()));
+        Assert.assertEquals(segundos, ArvoreAvl.intercalar(new ArrayList<>(), segundos));
+    }
+
+    /**
+     * Método responsável por dividir um percurso recursivamente, até não ser mais possível, copiando os dicionários na
+     * ordem do percurso. Alterna divisões com avanços individuais.
+     * 
+     * @param divisor
+     *            Percurso a ser dividido.
+     * 
+     * @param dicionarios
+     *            Lista onde serão copiados os dicionários.
+     */
+    private static void dividir(Spliterator<Dicionario> divisor, List<Dicionario> dicionarios) {
+        Spliterator<Dicionario> anteriores = divisor.trySplit();
+
+        if (anteriores != null) {
+            Assert.assertTrue(anteriores.hasCharacteristics(Spliterator.ORDERED));
+
+            dividir(anteriores, dicionarios);
+            divisor.tryAdvance(dicionarios::add);
+            dividir(divisor, dicionarios);
+        } else {
+            divisor.forEachRemaining(dicionarios::add);
+        }
+    }
+
+    /**
+     * Método responsável por copiar um percurso para uma lista.
+     * 
+     * @param dicionarios
+     *            Percurso desejado.
+     * 
+     * @return Os dicionários do percurso.
+     */
+    private static List<Dicionario> lista(Iterable<Dicionario> dicionarios) {
+        List<Dicionario> lista = new ArrayList<>();
+
+        dicionarios.forEach(lista::add);
+
+        return lista;
+    }
+
+    /**
+     * Método responsável por extrair as palavras dos dicionários.
+     * 
+     * @param dicionarios
+     *            Dicionários desejados.
+     * 
+     * @return As palavras dos dicionários.
+     */
+    private static List<String> palavras(List<Dicionario> dicionarios) {
+        List<String> palavras = new ArrayList<>();
+
+        for (Dicionario dicionario : dicionarios) {
+            palavras.add(dicionario.getPalavra());
+        }
+
+        return palavras;
+    }
+
 }
@@ -0,0 +1,126 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por testar a classe {@link AnalisadorDeLinha}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class AnalisadorDeLinhaTest {
+
+    // ====================================================================================================
+    // Validações do método AnalisadorDeLinha.analisar
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a separação de linhas regulares, inclusive a partir de um {@link CharBuffer}.
+     */
+    @Test
+    public void analisar_linhaRegularTest() {
+        Dicionario dicionario = AnalisadorDeLinha.analisar("<palavra_ingles>be<traducao1>ser<traducao2>estar<traducao3>haver");
+
+        Assert.assertEquals("be", dicionario.getPalavra());
+        Assert.assertEquals(Arrays.asList("ser", "estar", "haver"), dicionario.getDefinicoes());
+
+        dicionario = AnalisadorDeLinha.analisar(CharBuffer.wrap("xx<palavra_ingles>i<traducao1>eu <b>mesmo</b><traducao01>"));
+
+        Assert.assertEquals("i", dicionario.getPalavra());
+        Assert.assertEquals(Arrays.asList("eu <b>mesmo</b><traducao01>"), dicionario.getDefinicoes());
+
+        dicionario = AnalisadorDeLinha.analisar("<palavra_ingles>am");
+
+        Assert.assertEquals("am", dicionario.getPalavra());
+        Assert.assertEquals(Arrays.asList(), dicionario.getDefinicoes());
+
+        Assert.assertNull(AnalisadorDeLinha.analisar("linha invalida"));
+        Assert.assertNull(AnalisadorDeLinha.analisar(""));
+    }
+
+    /**
+     * Método responsável por validar que a separação em uma passagem tem o mesmo resultado da separação original em
+     * linhas regulares e irregulares geradas aleatoriamente, com marcadores repetidos, fora de ordem e incompletos.
+     */
+    @Test
+    public void analisar_linhasAleatoriasTest() {
+        String[] partes = { "<palavra_ingles>", "<traducao1>", "<traducao2>", "<traducao3>", "<traducao10>", "<traducao0>", "<traducao>", "<traducao2",
+                "<", ">", "be", "ser", " ", "2" };
+        Random random = new Random(42);
+        int irregulares = 0;
+
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder linha = new StringBuilder();
+            int quantidade = random.nextInt(8);
+
+            for (int j = 0; j < quantidade; j++) {
+                linha.append(partes[random.nextInt(partes.length)]);
+            }
+
+            // Metade das linhas segue o formato, com algumas partes aleatórias nos campos.
+            if (random.nextBoolean()) {
+                linha.insert(0, "<palavra_ingles>");
+
+                for (int traducao = 1, traducoes = random.nextInt(12); traducao <= traducoes; traducao++) {
+                    linha.append("<traducao").append(traducao).append(">").append(partes[10 + random.nextInt(4)]);
+                }
+            }
+
+            Dicionario esperado, obtido;
+
+            try {
+                esperado = AnalisadorDeLinha.analisarLinhaIrregular(linha.toString());
+            } catch (StringIndexOutOfBoundsException e) {
+                // A separação original falha em algumas linhas irregulares, e a nova deve falhar da mesma forma.
+                irregulares++;
+
+                try {
+                    AnalisadorDeLinha.analisar(linha);
+                    Assert.fail("A linha deveria ser rejeitada: " + linha);
+                } catch (StringIndexOutOfBoundsException f) {
+                    // Esperado.
+                }
+
+                continue;
+            }
+
+            obtido = AnalisadorDeLinha.analisar(linha);
+
+            if (esperado == null) {
+                Assert.assertNull(linha.toString(), obtido);
+            } else {
+                Assert.assertEquals(linha.toString(), esperado.getPalavra(), obtido.getPalavra());
+                Assert.assertEquals(linha.toString(), esperado.getDefinicoes(), obtido.getDefinicoes());
+            }
+        }
+
+        Assert.assertTrue(irregulares > 0);
+    }
+
+    /**
+     * Método responsável por validar a separação de uma linha com muitas traduções.
+     */
+    @Test
+    public void analisar_muitasTraducoesTest() {
+        StringBuilder linha = new StringBuilder("<palavra_ingles>run");
+        List<String> definicoes = new ArrayList<>();
+
+        for (int i = 1; i <= 1_000; i++) {
+            linha.append("<traducao").append(i).append(">sentido ").append(i);
+            definicoes.add("sentido " + i);
+        }
+
+        Dicionario dicionario = AnalisadorDeLinha.analisar(linha);
+
+        Assert.assertEquals("run", dicionario.getPalavra());
+        Assert.assertEquals(definicoes, dicionario.getDefinicoes());
+    }
+
+}
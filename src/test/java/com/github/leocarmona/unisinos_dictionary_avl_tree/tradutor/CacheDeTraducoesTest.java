@@ -0,0 +1,150 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.text.CollationKey;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por validar o {@link CacheDeTraducoes}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class CacheDeTraducoesTest {
+
+    // ====================================================================================================
+    // Validações dos métodos CacheDeTraducoes.pesquisar e CacheDeTraducoes.adicionar
+    // ====================================================================================================
+
+    /**
+     * Valida que as palavras utilizadas desde a última passagem do relógio são mantidas, e que as demais são removidas
+     * na ordem de inserção.
+     */
+    @Test
+    public void pesquisar_adicionar_relogioTest() {
+        CacheDeTraducoes cache = new CacheDeTraducoes(3);
+        List<String> definicoes = Collections.singletonList("traducao");
+
+        for (String palavra : Arrays.asList("a", "b", "c")) {
+            cache.adicionar(palavra, Dicionario.Utils.gerarChave(palavra), definicoes, cache.getGeracao());
+        }
+
+        Assert.assertSame(definicoes, cache.pesquisar("a"));
+        Assert.assertNull(cache.pesquisar("d"));
+
+        cache.adicionar("d", Dicionario.Utils.gerarChave("d"), definicoes, cache.getGeracao());
+
+        Assert.assertEquals(3, cache.getQuantidade());
+        Assert.assertEquals(1, cache.getRemocoes());
+        Assert.assertNotNull(cache.pesquisar("a"));
+        Assert.assertNull(cache.pesquisar("b"));
+        Assert.assertNotNull(cache.pesquisar("c"));
+        Assert.assertNotNull(cache.pesquisar("d"));
+        Assert.assertEquals(4, cache.getAcertos());
+        Assert.assertEquals(2, cache.getFalhas());
+        Assert.assertEquals(4.0 / 6.0, cache.getTaxaDeAcertos(), 1e-9);
+    }
+
+    /**
+     * Valida que muitas falhas simultâneas respeitam a capacidade e mantêm a quantidade coerente com as palavras
+     * guardadas.
+     */
+    @Test
+    public void pesquisar_adicionar_concorrenteTest() throws InterruptedException {
+        final CacheDeTraducoes cache = new CacheDeTraducoes(64);
+        final List<String> definicoes = Collections.singletonList("traducao");
+        final int threads = 8, palavrasPorThread = 5_000;
+        final CountDownLatch inicio = new CountDownLatch(1);
+        final AtomicReference<Throwable> erro = new AtomicReference<>();
+        final Thread[] adicionadores = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+
+            adicionadores[t] = new Thread(() -> {
+                try {
+                    inicio.await();
+
+                    for (int i = 0; i < palavrasPorThread; i++) {
+                        String palavra = "p" + thread + "_" + i;
+
+                        if (cache.pesquisar(palavra) == null) {
+                            cache.adicionar(palavra, Dicionario.Utils.gerarChave(palavra), definicoes, cache.getGeracao());
+                        }
+                    }
+                } catch (Throwable e) {
+                    erro.compareAndSet(null, e);
+                }
+            });
+            adicionadores[t].start();
+        }
+
+        inicio.countDown();
+
+        for (Thread adicionador : adicionadores) {
+            adicionador.join();
+        }
+
+        Assert.assertNull(erro.get());
+
+        // Aplica as admissões que ficaram pendentes.
+        cache.adicionar("final", Dicionario.Utils.gerarChave("final"), definicoes, cache.getGeracao());
+
+        int guardadas = 0;
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < palavrasPorThread; i++) {
+                guardadas += cache.pesquisar("p" + t + "_" + i) == null ? 0 : 1;
+            }
+        }
+
+        guardadas += cache.pesquisar("final") == null ? 0 : 1;
+
+        Assert.assertTrue(cache.getQuantidade() <= cache.getCapacidade());
+        Assert.assertEquals(cache.getQuantidade(), guardadas);
+        Assert.assertTrue(cache.getRemocoes() > 0);
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos CacheDeTraducoes.invalidar e CacheDeTraducoes.limpar
+    // ====================================================================================================
+
+    /**
+     * Valida que a invalidação remove todas as grafias de uma palavra e impede que uma tradução pesquisada antes dela
+     * seja guardada.
+     */
+    @Test
+    public void invalidar_limparTest() {
+        CacheDeTraducoes cache = new CacheDeTraducoes(10);
+        CollationKey chave = Dicionario.Utils.gerarChave("be");
+        List<String> definicoes = Collections.singletonList("ser");
+
+        cache.adicionar("be", chave, definicoes, cache.getGeracao());
+        cache.adicionar("Be", Dicionario.Utils.gerarChave("Be"), definicoes, cache.getGeracao());
+        cache.adicionar("i", Dicionario.Utils.gerarChave("i"), definicoes, cache.getGeracao());
+
+        long geracao = cache.getGeracao();
+
+        cache.invalidar(Dicionario.Utils.gerarChave("BÉ"));
+        cache.adicionar("BE", chave, definicoes, geracao);
+
+        Assert.assertNull(cache.pesquisar("be"));
+        Assert.assertNull(cache.pesquisar("Be"));
+        Assert.assertNull(cache.pesquisar("BE"));
+        Assert.assertNotNull(cache.pesquisar("i"));
+        Assert.assertEquals(1, cache.getQuantidade());
+        Assert.assertEquals(0, cache.getRemocoes());
+
+        cache.limpar();
+
+        Assert.assertNull(cache.pesquisar("i"));
+        Assert.assertEquals(0, cache.getQuantidade());
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por testar a classe {@link CarregamentoParalelo}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class CarregamentoParaleloTest {
+
+    // ====================================================================================================
+    // Validações do método CarregamentoParalelo.carregar
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar o carregamento paralelo de vários arquivos, com palavras repetidas entre eles, e de
+     * um arquivo grande dividido em pedaços, comparando com o carregamento dos arquivos um após o outro.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar os arquivos temporários.
+     */
+    @Test
+    public void carregarTest() throws IOException {
+        List<File> arquivos = new ArrayList<>();
+        Random random = new Random(42);
+        ForkJoinPool executor = new ForkJoinPool(4);
+
+        try {
+            // Um arquivo grande o suficiente para ser dividido em pedaços, seguido de arquivos pequenos.
+            for (int i = 0; i < 4; i++) {
+                File arquivo = File.createTempFile("dicionario" + i, ".dat");
+                StringBuilder conteudo = new StringBuilder();
+                int linhas = i == 0 ? 60_000 : 2_000;
+
+                arquivo.deleteOnExit();
+
+                for (int j = 0; j < linhas; j++) {
+                    if (j % 997 == 0) {
+                        conteudo.append("linha invalida\n");
+                    }
+
+                    conteudo.append("<palavra_ingles>Palávra").append(random.nextInt(20_000));
+
+                    for (int k = 1; k <= 1 + random.nextInt(3); k++) {
+                        conteudo.append("<traducao").append(k).append(">tradução ").append(random.nextInt(5));
+                    }
+
+                    conteudo.append(j % 3 == 0 ? "\r\n" : "\n");
+                }
+
+                Files.write(arquivo.toPath(), conteudo.toString().getBytes(StandardCharsets.UTF_8));
+                arquivos.add(arquivo);
+            }
+
+            Tradutor sequencial = new Tradutor();
+
+            for (File arquivo : arquivos) {
+                sequencial.carregaDicionario(arquivo.getAbsolutePath());
+            }
+
+            CarregamentoParalelo carregamento = new CarregamentoParalelo(executor);
+
+            Assert.assertTrue(carregamento.dividir(arquivos).size() > arquivos.size());
+
+            List<Dicionario> carregados = carregamento.carregar(arquivos);
+            List<Dicionario> esperados = sequencial.getConteudo();
+
+            Assert.assertEquals(esperados.size(), carregados.size());
+            Assert.assertEquals(60_000 / 997 + 1 + 3 * (2_000 / 997 + 1), carregamento.getLinhasInvalidas());
+
+            for (int i = 0; i < esperados.size(); i++) {
+                Assert.assertEquals(esperados.get(i).getPalavra(), carregados.get(i).getPalavra());
+                Assert.assertEquals(esperados.get(i).getDefinicoes(), carregados.get(i).getDefinicoes());
+            }
+
+            // O carregamento em um tradutor com conteúdo unifica as definições das palavras existentes.
+            Tradutor tradutor = new Tradutor();
+
+            tradutor.insereTraducao("Palavra1", new ArrayList<>(Arrays.asList("primeira")));
+            tradutor.carregaDicionarios(executor, arquivos.get(1).getAbsolutePath(), arquivos.get(2).getAbsolutePath());
+
+            Assert.assertEquals("primeira", tradutor.traduzPalavra("palavra1").get(0));
+            Assert.assertEquals(tradutor.getConteudo().size(), tradutor.getQuantidade());
+        } finally {
+            executor.shutdown();
+
+            for (File arquivo : arquivos) {
+                arquivo.delete();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por validar que uma falha na leitura de um arquivo é repassada, sem carregar nada.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar o arquivo temporário.
+     */
+    @Test
+    public void carregar_arquivoInexistenteTest() throws IOException {
+        File arquivo = File.createTempFile("dicionario", ".dat");
+
+        arquivo.delete();
+
+        try {
+            new CarregamentoParalelo(ForkJoinPool.commonPool()).carregar(Arrays.asList(arquivo));
+            Assert.fail("O arquivo inexistente deve ser rejeitado");
+        } catch (IOException e) {
+            // Esperado.
+        }
+    }
+
+}
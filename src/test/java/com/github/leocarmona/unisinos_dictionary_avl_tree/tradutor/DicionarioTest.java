@@ -2,7 +2,13 @@ package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -111,6 +117,46 @@ public class DicionarioTest {
         Assert.assertEquals(new ArrayList<>(Arrays.asList()), dicionario.getDefinicoes());
     }
 
+    /**
+     * Método responsável por validar a remoção de definições equivalentes entre si, ignorando acentos e letras
+     * maiúsculas e minúsculas, e a unificação de muitas definições.
+     */
+    @Test
+    public void removerDefinicao_definicoesEquivalentesTest() {
+        Dicionario dicionario = new Dicionario("coffee", new ArrayList<>(Arrays.asList("café", "cafe", "bebida")));
+
+        Assert.assertFalse(dicionario.adicionarDefinicao("CAFÉ"));
+        Assert.assertTrue(dicionario.adicionarDefinicao("Chá"));
+        Assert.assertEquals(Arrays.asList("café", "cafe", "bebida", "chá"), dicionario.getDefinicoes());
+
+        Assert.assertTrue(dicionario.removerDefinicao("Cafe"));
+        Assert.assertEquals(Arrays.asList("bebida", "chá"), dicionario.getDefinicoes());
+        Assert.assertFalse(dicionario.removerDefinicao("café"));
+
+        // As definições substituídas não podem continuar indexadas.
+        dicionario.setDefinicoes(Arrays.asList("cafe"));
+
+        Assert.assertFalse(dicionario.removerDefinicao("bebida"));
+        Assert.assertTrue(dicionario.adicionarDefinicao("bebida"));
+        Assert.assertFalse(dicionario.adicionarDefinicao("CAFÉ"));
+
+        List<String> definicoes = new ArrayList<>();
+        List<String> novasDefinicoes = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            definicoes.add("sentido " + i);
+            novasDefinicoes.add("SENTIDO " + (i + 1_000));
+        }
+
+        dicionario = new Dicionario("run", definicoes);
+
+        Assert.assertTrue(dicionario.adicionarDefinicoes(novasDefinicoes));
+        Assert.assertEquals(3_000, dicionario.getDefinicoes().size());
+        Assert.assertEquals("sentido 2999", dicionario.getDefinicoes().get(2_999));
+        Assert.assertTrue(dicionario.removerDefinicao("Sentido 0"));
+        Assert.assertEquals("sentido 1", dicionario.getDefinicoes().get(0));
+    }
+
     // ====================================================================================================
     // Validações do método Dicionario.possuiDefinicoes
     // ====================================================================================================
@@ -128,6 +174,44 @@ public class DicionarioTest {
         Assert.assertEquals(true, dicionario.possuiDefinicoes());
     }
 
+    // ====================================================================================================
+    // Validações dos métodos Dicionario.compararPalavra e Dicionario.compararChave
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar a comparação de palavras pela chave pré-calculada.
+     */
+    @Test
+    public void compararPalavra_compararChaveTest() {
+        Dicionario dicionario = new Dicionario("café");
+
+        Assert.assertEquals(0, dicionario.compararPalavra("CAFE"));
+        Assert.assertEquals(0, dicionario.compararChave(Dicionario.Utils.gerarChave("Café")));
+        Assert.assertTrue(dicionario.compararChave(Dicionario.Utils.gerarChave("casa")) < 0);
+        Assert.assertTrue(dicionario.compararChave(Dicionario.Utils.gerarChave("abacate")) > 0);
+
+        dicionario.setPalavra("casa");
+        Assert.assertEquals(0, dicionario.compararPalavra("CASA"));
+    }
+
+    // ====================================================================================================
+    // Validações do método Dicionario.toString
+    // ====================================================================================================
+
+    /**
+     * Método responsável por validar que a representação do dicionário não inclui as subárvores.
+     */
+    @Test
+    public void toStringTest() {
+        Dicionario dicionario = new Dicionario("be", new ArrayList<>(Arrays.asList("ser")));
+        Dicionario esquerda = new Dicionario("i");
+
+        esquerda.setEsquerda(new Dicionario("you"));
+        dicionario.setEsquerda(esquerda);
+
+        Assert.assertEquals("Dicionario [palavra=be, definicoes=[ser], esquerda=i, direita=null, altura=0, tamanho=1]", dicionario.toString());
+    }
+
     // ====================================================================================================
     // Validações do método Dicionario.Utils.ajustarDefinicoes
     // ====================================================================================================
@@ -145,4 +229,81 @@ public class DicionarioTest {
         Assert.assertEquals(definicoesEsperadas, definicoes);
     }
 
+    /**
+     * Método responsável por validar o ajuste de definições contra a implementação original, baseada em expressões
+     * regulares, em um corpus de casos especiais e de definições aleatórias, nos locales inglês e turco.
+     */
+    @Test
+    public void ajustarDefinicoes_corpusTest() {
+        List<String> corpus = new ArrayList<>(Arrays.asList("ser", "Ser", "  ser", "ser  ", "a b", "a  b", "a\tb", "a \t\n\u000B\f\rb", "A\u0001B", "\u0001",
+                "\u001C", " \u001C a \u001C ", "\u00A0", "a\u00A0b", "\u2003", " \u2003 ", "Café  Com  Leite", "CAFÉ", "İstanbul", "ΟΔΟΣ", "STRASSE", "straße",
+                "", " ", "\t\n", "A", "Z", "@[`{", "1 2  3", "x\u0085y"));
+        Random random = new Random(42);
+        char[] alfabeto = " \t\n\u000B\f\r\u0001\u001CaAzZIi09-'ÉéİıΣς\u00A0\u2003ß".toCharArray();
+
+        for (int i = 0; i < 20_000; i++) {
+            char[] definicao = new char[random.nextInt(12)];
+
+            for (int j = 0; j < definicao.length; j++) {
+                // Privilegia o ASCII, para exercitar o caminho rápido.
+                definicao[j] = alfabeto[random.nextInt(random.nextBoolean() ? 14 : alfabeto.length)];
+            }
+
+            corpus.add(new String(definicao));
+        }
+
+        Locale localePadrao = Locale.getDefault();
+
+        try {
+            for (Locale locale : new Locale[] { Locale.US, new Locale("tr", "TR") }) {
+                Locale.setDefault(locale);
+
+                for (String definicao : corpus) {
+                    List<String> definicoes = new ArrayList<>(Arrays.asList(definicao));
+
+                    Dicionario.Utils.ajustarDefinicoes(definicoes);
+                    Assert.assertEquals(locale + " [" + definicao + "]", ajustarDefinicoesComExpressaoRegular(Arrays.asList(definicao)), definicoes);
+                }
+
+                for (int i = 0; i + 40 <= corpus.size(); i += 40) {
+                    List<String> definicoes = new ArrayList<>(corpus.subList(i, i + 40));
+
+                    definicoes.addAll(corpus.subList(i, i + 20));
+                    definicoes.add(null);
+
+                    List<String> esperadas = ajustarDefinicoesComExpressaoRegular(definicoes);
+
+                    Dicionario.Utils.ajustarDefinicoes(definicoes);
+                    Assert.assertEquals(esperadas, definicoes);
+                }
+            }
+        } finally {
+            Locale.setDefault(localePadrao);
+        }
+
+        String normalizada = "ja normalizada";
+
+        Assert.assertSame(normalizada, Dicionario.Utils.normalizarDefinicao(normalizada));
+    }
+
+    /**
+     * Método responsável por ajustar as definições da forma original, utilizada como referência.
+     * 
+     * @param definicoes
+     *            Definições a serem ajustadas.
+     * 
+     * @return As definições ajustadas.
+     */
+    private static List<String> ajustarDefinicoesComExpressaoRegular(List<String> definicoes) {
+        Set<String> _definicoes = new LinkedHashSet<>();
+
+        for (String definicao : definicoes) {
+            if (!StringUtils.isBlank(definicao)) {
+                _definicoes.add(definicao.trim().toLowerCase().replaceAll("\\s+", " "));
+            }
+        }
+
+        return new ArrayList<>(_definicoes);
+    }
+
 }
@@ -0,0 +1,289 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por validar a {@link TraducaoDeTexto}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class TraducaoDeTextoTest {
+
+    /**
+     * Método responsável por criar o tradutor utilizado nos testes.
+     * 
+     * @return O tradutor.
+     */
+    private static Tradutor criarTradutor() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar")));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+        tradutor.insereTraducao("don't", new ArrayList<>(Arrays.asList("não")));
+
+        return tradutor;
+    }
+
+    // ====================================================================================================
+    // Validações do método TraducaoDeTexto.traduzir
+    // ====================================================================================================
+
+    /**
+     * Valida a tradução de um texto curto, preservando a pontuação, os espaços e as palavras sem tradução.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura ou escrita.
+     */
+    @Test
+    public void traduzirTest() throws IOException {
+        StringWriter saida = new StringWriter();
+        long traduzidas = new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader("I am, I don't BE...\n\tnot here!"), saida);
+
+        Assert.assertEquals("eu sou, eu não ser...\n\tnot here!", saida.toString());
+        Assert.assertEquals(5, traduzidas);
+
+        saida = new StringWriter();
+
+        Assert.assertEquals(0, new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader(""), saida));
+        Assert.assertEquals("", saida.toString());
+    }
+
+    /**
+     * Valida a tradução de palavras entre aspas simples ou com hífens nas pontas, mantendo os apóstrofos e hífens das
+     * pontas e traduzindo os do meio como parte da palavra.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura ou escrita.
+     */
+    @Test
+    public void traduzir_apostrofosEHifensNasPontasTest() throws IOException {
+        StringWriter saida = new StringWriter();
+        long traduzidas = new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader("'be' -be be- --am-- 'don't' ' -- 'x-i'"), saida);
+
+        Assert.assertEquals("'ser' -ser ser- --sou-- 'não' ' -- 'x-i'", saida.toString());
+        Assert.assertEquals(5, traduzidas);
+    }
+
+    /**
+     * Valida que a tradução não depende do locale padrão: no locale turco, o "I" não deve ser pesquisado como o "ı" sem
+     * ponto.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura ou escrita.
+     */
+    @Test
+    public void traduzir_localeTurcoTest() throws IOException {
+        Locale localePadrao = Locale.getDefault();
+        StringWriter saida = new StringWriter();
+
+        Locale.setDefault(new Locale("tr", "TR"));
+
+        try {
+            Assert.assertEquals(2, new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader("I AM"), saida));
+        } finally {
+            Locale.setDefault(localePadrao);
+        }
+
+        Assert.assertEquals("eu sou", saida.toString());
+    }
+
+    /**
+     * Valida a tradução de um texto maior que vários blocos e buffers, com palavras que atravessam os limites de leitura
+     * e palavras longas demais para serem traduzidas.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura ou escrita.
+     */
+    @Test
+    public void traduzir_textoLongoTest() throws IOException {
+        StringBuilder texto = new StringBuilder();
+        StringBuilder esperado = new StringBuilder();
+        char[] palavraLonga = new char[TraducaoDeTexto.TAMANHO_DO_BUFFER * 2 + 1];
+
+        Arrays.fill(palavraLonga, 'i');
+
+        for (int i = 0; i < 50_000; i++) {
+            texto.append(i % 3 == 0 ? "I " : i % 3 == 1 ? "am\n" : "xyz, ");
+            esperado.append(i % 3 == 0 ? "eu " : i % 3 == 1 ? "sou\n" : "xyz, ");
+        }
+
+        texto.append(palavraLonga).append(" be");
+        esperado.append(palavraLonga).append(" ser");
+
+        StringWriter saida = new StringWriter();
+        long traduzidas = new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader(texto.toString()), saida);
+
+        Assert.assertEquals(esperado.toString(), saida.toString());
+        Assert.assertEquals(33_335, traduzidas);
+    }
+
+    /**
+     * Valida que uma falha na leitura do texto é repassada a quem solicitou a tradução.
+     */
+    @Test
+    public void traduzir_falhaNaLeituraTest() {
+        Reader entrada = new Reader() {
+
+            private boolean lido;
+
+            @Override
+            public int read(char[] buffer, int inicio, int tamanho) throws IOException {
+                if (lido) {
+                    throw new IOException("falha");
+                }
+
+                lido = true;
+                buffer[inicio] = 'i';
+
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try {
+            new TraducaoDeTexto(criarTradutor()).traduzir(entrada, new StringWriter());
+            Assert.fail("A falha na leitura deve ser repassada");
+        } catch (IOException e) {
+            Assert.assertEquals("falha", e.getMessage());
+        }
+    }
+
+    /**
+     * Valida que uma falha na pesquisa das traduções encerra todas as etapas, inclusive a separação bloqueada na fila
+     * cheia que deixou de ser consumida.
+     * 
+     * @throws InterruptedException
+     *             Caso o teste seja interrompido.
+     */
+    @Test
+    public void traduzir_falhaNaPesquisaTest() throws InterruptedException {
+        Tradutor tradutor = new Tradutor() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Map<String, List<String>> traduzPalavras(Collection<String> palavras) {
+                aguardarFilasCheias();
+
+                throw new IllegalArgumentException("falha");
+            }
+        };
+
+        try {
+            new TraducaoDeTexto(tradutor).traduzir(new StringReader(textoLongo()), new StringWriter());
+            Assert.fail("A falha na pesquisa deve ser repassada");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("falha", e.getCause().getMessage());
+        } catch (IOException e) {
+            Assert.fail(e.getMessage());
+        }
+
+        aguardarEtapas();
+    }
+
+    /**
+     * Valida que uma falha na escrita do texto traduzido encerra as etapas bloqueadas nas filas cheias.
+     * 
+     * @throws InterruptedException
+     *             Caso o teste seja interrompido.
+     */
+    @Test
+    public void traduzir_falhaNaEscritaTest() throws InterruptedException {
+        Writer saida = new Writer() {
+
+            @Override
+            public void write(char[] buffer, int inicio, int tamanho) throws IOException {
+                aguardarFilasCheias();
+
+                throw new IOException("falha");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try {
+            new TraducaoDeTexto(criarTradutor()).traduzir(new StringReader(textoLongo()), saida);
+            Assert.fail("A falha na escrita deve ser repassada");
+        } catch (IOException e) {
+            Assert.assertEquals("falha", e.getMessage());
+        }
+
+        aguardarEtapas();
+    }
+
+    /**
+     * Método responsável por atrasar uma etapa antes da sua falha, para que as etapas anteriores encham as filas e fiquem
+     * bloqueadas.
+     */
+    private static void aguardarFilasCheias() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Método responsável por criar um texto com mais blocos do que cabem nas filas entre as etapas.
+     * 
+     * @return O texto.
+     */
+    private static String textoLongo() {
+        StringBuilder texto = new StringBuilder();
+
+        for (int i = 0; i < TraducaoDeTexto.PARTES_POR_BLOCO * TraducaoDeTexto.CAPACIDADE_DA_FILA * 4; i++) {
+            texto.append("I am ");
+        }
+
+        return texto.toString();
+    }
+
+    /**
+     * Método responsável por aguardar o término das threads das etapas, falhando caso alguma continue bloqueada.
+     * 
+     * @throws InterruptedException
+     *             Caso o teste seja interrompido.
+     */
+    private static void aguardarEtapas() throws InterruptedException {
+        for (int tentativa = 0; tentativa < 100; tentativa++) {
+            boolean emExecucao = false;
+
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                emExecucao |= "traducao-de-texto".equals(thread.getName()) && thread.isAlive();
+            }
+
+            if (!emExecucao) {
+                return;
+            }
+
+            Thread.sleep(50);
+        }
+
+        Assert.fail("As etapas da tradução continuam em execução");
+    }
+
+}
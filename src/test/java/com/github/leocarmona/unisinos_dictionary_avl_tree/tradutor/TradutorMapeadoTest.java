@@ -0,0 +1,126 @@
+package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Classe responsável por testar a classe {@link TradutorMapeado}.
+ * 
+ * @author leonardo.carmona
+ * 
+ */
+public class TradutorMapeadoTest {
+
+    // ====================================================================================================
+    // Validações do método TradutorMapeado.traduzPalavra
+    // ====================================================================================================
+
+    /**
+     * Valida a tradução das palavras diretamente do dicionário binário mapeado em memória.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura.
+     */
+    @Test
+    public void traduzPalavraTest() throws IOException {
+        Tradutor tradutor = new Tradutor();
+        File arquivo = Files.createTempFile("dicionario-mapeado", ".bin").toFile();
+        Random random = new Random(42);
+
+        try {
+            for (int i = 0; i < 5_000; i++) {
+                tradutor.insereTraducao("palavra" + random.nextInt(100_000), new ArrayList<>(Arrays.asList("traducao" + i)));
+            }
+
+            tradutor.insereTraducao("café", new ArrayList<>(Arrays.asList("café", "coffee shop")));
+            tradutor.salvaDicionarioBinario(arquivo.getAbsolutePath());
+
+            TradutorMapeado tradutorMapeado = new TradutorMapeado(arquivo.getAbsolutePath());
+
+            Assert.assertEquals(tradutor.getConteudo().size(), tradutorMapeado.getQuantidade());
+
+            for (Dicionario dicionario : tradutor.getConteudo()) {
+                Assert.assertEquals(dicionario.getDefinicoes(), tradutorMapeado.traduzPalavra(dicionario.getPalavra()));
+            }
+
+            Assert.assertEquals(Arrays.asList("café", "coffee shop"), tradutorMapeado.traduzPalavra("CAFE"));
+            Assert.assertEquals(Collections.emptyList(), tradutorMapeado.traduzPalavra("nao encontrado"));
+            Assert.assertEquals(Collections.emptyList(), tradutorMapeado.traduzPalavra("palavra"));
+        } finally {
+            arquivo.delete();
+        }
+    }
+
+    /**
+     * Valida que um dicionário binário com o rodapé corrompido é rejeitado pelo construtor, e que os demais dados
+     * corrompidos são rejeitados na tradução com uma {@link IllegalStateException}, nunca com outra exceção.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar o arquivo temporário.
+     */
+    @Test
+    public void traduzPalavra_arquivoCorrompidoTest() throws IOException {
+        Tradutor tradutor = new Tradutor();
+        File arquivo = Files.createTempFile("dicionario-mapeado", ".bin").toFile();
+
+        try {
+            for (int i = 0; i < 50; i++) {
+                tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("tradução " + i, "outra " + i)));
+            }
+
+            tradutor.salvaDicionarioBinario(arquivo.getAbsolutePath());
+
+            final byte[] original = Files.readAllBytes(arquivo.toPath());
+            final List<Dicionario> dicionarios = tradutor.getConteudo();
+            Random random = new Random(42);
+
+            for (int tamanho = original.length - 1; tamanho >= DicionarioBinario.TAMANHO_CABECALHO + DicionarioBinario.TAMANHO_RODAPE; tamanho -= 7) {
+                Files.write(arquivo.toPath(), Arrays.copyOf(original, tamanho));
+
+                try {
+                    new TradutorMapeado(arquivo.getAbsolutePath());
+                    Assert.fail("O arquivo truncado em " + tamanho + " bytes deve ser rejeitado");
+                } catch (IOException e) {
+                    Assert.assertTrue(e.getMessage().contains("corrompido"));
+                }
+            }
+
+            for (int i = 0; i < 2_000; i++) {
+                byte[] corrompido = original.clone();
+
+                corrompido[DicionarioBinario.TAMANHO_CABECALHO + random.nextInt(corrompido.length - DicionarioBinario.TAMANHO_CABECALHO)] = (byte) random.nextInt();
+                Files.write(arquivo.toPath(), corrompido);
+
+                TradutorMapeado tradutorMapeado;
+
+                try {
+                    tradutorMapeado = new TradutorMapeado(arquivo.getAbsolutePath());
+                } catch (IOException e) {
+                    // Esperado quando o rodapé foi alterado.
+                    continue;
+                }
+
+                for (Dicionario dicionario : dicionarios) {
+                    try {
+                        tradutorMapeado.traduzPalavra(dicionario.getPalavra());
+                    } catch (IllegalStateException e) {
+                        Assert.assertTrue(e.getMessage().contains("corrompido"));
+                    }
+                }
+            }
+        } finally {
+            arquivo.delete();
+        }
+    }
+
+
+}
@@ -1,14 +1,32 @@
 package com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.github.leocarmona.unisinos_dictionary_avl_tree.arvore.ArvoreAvl;
 import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Dicionario;
 import com.github.leocarmona.unisinos_dictionary_avl_tree.tradutor.Tradutor;
 
@@ -59,6 +77,407 @@ public class TradutorTest {
         Assert.assertEquals(new ArrayList<>(Arrays.asList("ser", "estar", "haver")), tradutor.traduzPalavra("be"));
     }
 
+    /**
+     * Valida que as traduções retornadas não podem ser modificadas e que as palavras não encontradas retornam sempre a
+     * mesma lista vazia.
+     */
+    @Test
+    public void traduzPalavra_somenteLeituraTest() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar")));
+
+        Assert.assertSame(tradutor.traduzPalavra("nao encontrado"), tradutor.traduzPalavra("outra palavra"));
+
+        try {
+            tradutor.traduzPalavra("be").add("haver");
+            Assert.fail("As traduções retornadas não devem ser modificáveis");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(Arrays.asList("ser", "estar"), tradutor.traduzPalavra("be"));
+        }
+
+        try {
+            tradutor.getConteudo().get(0).getDefinicoes().clear();
+            Assert.fail("As definições do dicionário não devem ser modificáveis");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(Arrays.asList("ser", "estar"), tradutor.traduzPalavra("be"));
+        }
+    }
+
+    /**
+     * Valida a tradução de várias palavras em uma só chamada, com palavras repetidas, equivalentes e inexistentes.
+     */
+    @Test
+    public void traduzPalavrasTest() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar")));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+
+        Map<String, List<String>> traducoes = tradutor.traduzPalavras(Arrays.asList("i", "am", "BE", "i", "be", "not"));
+
+        Assert.assertEquals(Arrays.asList("i", "am", "BE", "be", "not"), new ArrayList<>(traducoes.keySet()));
+        Assert.assertEquals(Arrays.asList("eu"), traducoes.get("i"));
+        Assert.assertEquals(Arrays.asList("sou"), traducoes.get("am"));
+        Assert.assertEquals(Arrays.asList("ser", "estar"), traducoes.get("BE"));
+        Assert.assertEquals(Arrays.asList("ser", "estar"), traducoes.get("be"));
+        Assert.assertEquals(Collections.emptyList(), traducoes.get("not"));
+        Assert.assertTrue(tradutor.traduzPalavras(Collections.emptyList()).isEmpty());
+
+        for (String palavra : traducoes.keySet()) {
+            Assert.assertEquals(tradutor.traduzPalavra(palavra), traducoes.get(palavra));
+        }
+    }
+
+    /**
+     * Valida a sugestão de palavras pelo prefixo.
+     */
+    @Test
+    public void sugerePalavrasTest() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser")));
+        tradutor.insereTraducao("Bee", new ArrayList<>(Arrays.asList("abelha")));
+        tradutor.insereTraducao("beer", new ArrayList<>(Arrays.asList("cerveja")));
+        tradutor.insereTraducao("bed", new ArrayList<>(Arrays.asList("cama")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+
+        Assert.assertEquals(Arrays.asList("be", "bed", "Bee"), tradutor.sugerePalavras("BE", 3));
+        Assert.assertEquals(Arrays.asList("Bee", "beer"), tradutor.sugerePalavras("bée", 10));
+        Assert.assertEquals(Collections.emptyList(), tradutor.sugerePalavras("c", 10));
+    }
+
+    /**
+     * Valida os percursos dos dicionários sem cópia do conteúdo.
+     */
+    @Test
+    public void percorreDicionario_percorreIntervaloTest() {
+        Tradutor tradutor = new Tradutor();
+        List<String> palavras = new ArrayList<>();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser")));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+
+        tradutor.percorreDicionario(dicionario -> palavras.add(dicionario.getPalavra()));
+
+        Assert.assertEquals(Arrays.asList("i", "be", "am"), palavras);
+
+        palavras.clear();
+        tradutor.percorreIntervalo("B", "j", dicionario -> palavras.add(dicionario.getPalavra()));
+
+        Assert.assertEquals(Arrays.asList("be", "i"), palavras);
+    }
+
+    /**
+     * Valida a quantidade de palavras, a posição de uma palavra e a paginação do conteúdo.
+     */
+    @Test
+    public void getQuantidade_getPosicao_getConteudoPaginadoTest() {
+        Tradutor tradutor = new Tradutor();
+
+        Assert.assertEquals(0, tradutor.getQuantidade());
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser")));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+        tradutor.insereTraducao("Be", new ArrayList<>(Arrays.asList("estar")));
+
+        Assert.assertEquals(3, tradutor.getQuantidade());
+        Assert.assertEquals(0, tradutor.getPosicao("I"));
+        Assert.assertEquals(2, tradutor.getPosicao("am"));
+        Assert.assertEquals(-2, tradutor.getPosicao("go"));
+        Assert.assertEquals(Arrays.asList("be", "am"), tradutor.getConteudo(1, 5).stream().map(Dicionario::getPalavra).collect(Collectors.toList()));
+
+        tradutor.removePalavra("be");
+
+        Assert.assertEquals(2, tradutor.getQuantidade());
+        Assert.assertEquals(Arrays.asList("am"), tradutor.getConteudo(1, 5).stream().map(Dicionario::getPalavra).collect(Collectors.toList()));
+    }
+
+    /**
+     * Valida a normalização paralela das definições, com a remoção das palavras que ficam sem definições.
+     */
+    @Test
+    public void normalizaDefinicoesTest() {
+        Tradutor tradutor = new Tradutor();
+        List<Dicionario> dicionarios = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            Dicionario dicionario = new Dicionario("palavra" + i, new ArrayList<>(Arrays.asList("traducao" + i)));
+
+            // Simula definições gravadas antes das regras de ajuste atuais.
+            if (i % 10 == 0) {
+                dicionario.definicoes = new ArrayList<>(Arrays.asList("  TRADUCAO  " + i, "traducao " + i));
+            } else if (i % 10 == 1) {
+                dicionario.definicoes = new ArrayList<>(Arrays.asList(" "));
+            }
+
+            dicionarios.add(dicionario);
+        }
+
+        tradutor.construir(dicionarios);
+
+        Assert.assertEquals(200, tradutor.normalizaDefinicoes());
+        Assert.assertEquals(900, tradutor.getConteudo().size());
+        Assert.assertEquals(Arrays.asList("traducao 0"), tradutor.traduzPalavra("palavra0"));
+        Assert.assertEquals(Collections.emptyList(), tradutor.traduzPalavra("palavra1"));
+        Assert.assertEquals(Arrays.asList("traducao2"), tradutor.traduzPalavra("palavra2"));
+        Assert.assertEquals(0, tradutor.normalizaDefinicoes());
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos Tradutor.removeDefinicao e Tradutor.removePalavra
+    // ====================================================================================================
+
+    /**
+     * Valida a remoção de definições e a remoção automática das palavras que ficam sem definições.
+     */
+    @Test
+    public void removeDefinicao_removePalavraTest() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar")));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+
+        Assert.assertFalse(tradutor.removeDefinicao("nao encontrado", "ser"));
+        Assert.assertFalse(tradutor.removeDefinicao("be", "haver"));
+
+        Assert.assertTrue(tradutor.removeDefinicao("be", "SER"));
+        Assert.assertEquals(Arrays.asList("estar"), tradutor.traduzPalavra("be"));
+        Assert.assertEquals(3, tradutor.getConteudo().size());
+
+        Assert.assertTrue(tradutor.removeDefinicao("be", "estar"));
+        Assert.assertEquals(new ArrayList<>(), tradutor.traduzPalavra("be"));
+        Assert.assertEquals(2, tradutor.getConteudo().size());
+
+        Assert.assertTrue(tradutor.removePalavra("I"));
+        Assert.assertFalse(tradutor.removePalavra("i"));
+        Assert.assertEquals(1, tradutor.getConteudo().size());
+        Assert.assertEquals(Arrays.asList("sou"), tradutor.traduzPalavra("am"));
+    }
+
+    // ====================================================================================================
+    // Validações dos métodos Tradutor.habilitaIndice e Tradutor.desabilitaIndice
+    // ====================================================================================================
+
+    /**
+     * Valida que o índice de pesquisa exata acompanha as inserções, as remoções e os carregamentos do tradutor, e que a
+     * sua memória é informada somente enquanto está habilitado.
+     * 
+     * @throws Exception
+     *             Caso ocorra um erro na serialização do tradutor.
+     */
+    @Test
+    public void habilitaIndice_desabilitaIndiceTest() throws Exception {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar")));
+
+        Assert.assertEquals(0, tradutor.getMemoriaDoIndice());
+
+        tradutor.habilitaIndice();
+
+        Assert.assertTrue(tradutor.getMemoriaDoIndice() > 0);
+        Assert.assertEquals(Arrays.asList("ser", "estar"), tradutor.traduzPalavra("BE"));
+
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        tradutor.insereTraducao("Be", new ArrayList<>(Arrays.asList("haver")));
+
+        Assert.assertEquals(Arrays.asList("eu"), tradutor.traduzPalavra("i"));
+        Assert.assertEquals(Arrays.asList("ser", "estar", "haver"), tradutor.traduzPalavra("be"));
+        Assert.assertEquals(Arrays.asList("eu"), tradutor.traduzPalavras(Arrays.asList("i")).get("i"));
+
+        Assert.assertTrue(tradutor.removePalavra("i"));
+        Assert.assertEquals(Collections.emptyList(), tradutor.traduzPalavra("i"));
+
+        Assert.assertTrue(tradutor.removeDefinicao("be", "ser"));
+        Assert.assertTrue(tradutor.removeDefinicao("be", "estar"));
+        Assert.assertTrue(tradutor.removeDefinicao("be", "haver"));
+        Assert.assertEquals(Collections.emptyList(), tradutor.traduzPalavra("be"));
+
+        tradutor.construir(Arrays.asList(new Dicionario("am", new ArrayList<>(Arrays.asList("sou")))));
+
+        Assert.assertEquals(Arrays.asList("sou"), tradutor.traduzPalavra("am"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream saida = new ObjectOutputStream(bytes)) {
+            saida.writeObject(tradutor);
+        }
+
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Tradutor desserializado = (Tradutor) entrada.readObject();
+
+            Assert.assertTrue(desserializado.getMemoriaDoIndice() > 0);
+            Assert.assertEquals(Arrays.asList("sou"), desserializado.traduzPalavra("am"));
+        }
+
+        tradutor.desabilitaIndice();
+
+        Assert.assertEquals(0, tradutor.getMemoriaDoIndice());
+        Assert.assertEquals(Arrays.asList("sou"), tradutor.traduzPalavra("am"));
+    }
+
+    // ====================================================================================================
+    // Validações do método Tradutor.habilitaCache
+    // ====================================================================================================
+
+    /**
+     * Valida que o cache de traduções é invalidado pelas inserções e remoções de todas as grafias de uma palavra,
+     * inclusive das palavras sem tradução.
+     */
+    @Test
+    public void habilitaCacheTest() {
+        Tradutor tradutor = new Tradutor();
+
+        tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser")));
+        tradutor.habilitaCache(2);
+
+        Assert.assertEquals(Arrays.asList("ser"), tradutor.traduzPalavra("be"));
+        Assert.assertEquals(Arrays.asList("ser"), tradutor.traduzPalavra("BE"));
+        Assert.assertEquals(Arrays.asList("ser"), tradutor.traduzPalavra("be"));
+        Assert.assertEquals(1, tradutor.getCache().getAcertos());
+        Assert.assertEquals(2, tradutor.getCache().getFalhas());
+
+        tradutor.insereTraducao("Be", new ArrayList<>(Arrays.asList("estar")));
+
+        Assert.assertEquals(0, tradutor.getCache().getQuantidade());
+        Assert.assertEquals(Arrays.asList("ser", "estar"), tradutor.traduzPalavra("BE"));
+
+        Assert.assertEquals(Collections.emptyList(), tradutor.traduzPalavra("i"));
+        tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+        Assert.assertEquals(Arrays.asList("eu"), tradutor.traduzPalavra("i"));
+
+        tradutor.removeDefinicao("be", "ser");
+        Assert.assertEquals(Arrays.asList("estar"), tradutor.traduzPalavra("BE"));
+
+        tradutor.removePalavra("i");
+        Assert.assertEquals(Collections.emptyList(), tradutor.traduzPalavra("i"));
+
+        tradutor.traduzPalavra("am");
+        Assert.assertEquals(2, tradutor.getCache().getQuantidade());
+        Assert.assertTrue(tradutor.getCache().getRemocoes() > 0);
+
+        tradutor.desabilitaCache();
+
+        Assert.assertNull(tradutor.getCache());
+        Assert.assertEquals(Arrays.asList("estar"), tradutor.traduzPalavra("be"));
+    }
+
+    // ====================================================================================================
+    // Validações do acesso concorrente aos métodos Tradutor.insereTraducao, Tradutor.traduzPalavra e Tradutor.removeDefinicao
+    // ====================================================================================================
+
+    /**
+     * Valida que leituras e escritas concorrentes não corrompem a árvore nem retornam traduções inconsistentes.
+     * 
+     * @throws Exception
+     *             Caso alguma thread falhe.
+     */
+    @Test
+    public void traduzPalavra_insereTraducao_concorrenteTest() throws Exception {
+        final int palavras = 2_000, leitores = 8, escritores = 2;
+        final Tradutor tradutor = new Tradutor();
+        ExecutorService executor = Executors.newFixedThreadPool(leitores + escritores);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < palavras; i += 2) {
+            tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("traducao" + i)));
+        }
+
+        for (int e = 0; e < escritores; e++) {
+            final int inicio = 1 + e * 2;
+
+            tarefas.add(executor.submit(() -> {
+                for (int i = inicio; i < palavras; i += 2 * escritores) {
+                    tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("traducao" + i)));
+                    tradutor.insereTraducao("palavra" + (i - 1), new ArrayList<>(Arrays.asList("temporaria")));
+                    tradutor.removeDefinicao("palavra" + (i - 1), "temporaria");
+                }
+            }));
+        }
+
+        for (int l = 0; l < leitores; l++) {
+            tarefas.add(executor.submit(() -> {
+                for (int repeticao = 0; repeticao < 5; repeticao++) {
+                    for (int i = 0; i < palavras; i += 2) {
+                        Assert.assertEquals("traducao" + i, tradutor.traduzPalavra("palavra" + i).get(0));
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+
+        executor.shutdown();
+
+        for (int i = 0; i < palavras; i++) {
+            Assert.assertEquals(Arrays.asList("traducao" + i), tradutor.traduzPalavra("palavra" + i));
+        }
+    }
+
+    /**
+     * Valida que o cache de traduções não guarda traduções desatualizadas quando as palavras são alteradas durante as
+     * pesquisas, mesmo com remoções por falta de espaço.
+     * 
+     * @throws Exception
+     *             Caso alguma leitura concorrente falhe.
+     */
+    @Test
+    public void traduzPalavra_habilitaCache_concorrenteTest() throws Exception {
+        final int palavras = 500, leitores = 6, escritores = 2, versoes = 20;
+        final Tradutor tradutor = new Tradutor();
+        ExecutorService executor = Executors.newFixedThreadPool(leitores + escritores);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < palavras; i++) {
+            tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("versao0")));
+        }
+
+        tradutor.habilitaCache(palavras / 4);
+
+        for (int e = 0; e < escritores; e++) {
+            final int inicio = e;
+
+            tarefas.add(executor.submit(() -> {
+                for (int versao = 1; versao <= versoes; versao++) {
+                    for (int i = inicio; i < palavras; i += escritores) {
+                        tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("versao" + versao)));
+                        tradutor.removeDefinicao("palavra" + i, "versao" + (versao - 1));
+                    }
+                }
+            }));
+        }
+
+        for (int l = 0; l < leitores; l++) {
+            final int semente = l;
+
+            tarefas.add(executor.submit(() -> {
+                Random random = new Random(semente);
+
+                for (int repeticao = 0; repeticao < 20_000; repeticao++) {
+                    Assert.assertFalse(tradutor.traduzPalavra("PALAVRA" + random.nextInt(palavras)).isEmpty());
+                }
+            }));
+        }
+
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+
+        executor.shutdown();
+
+        for (int i = 0; i < palavras; i++) {
+            Assert.assertEquals(Arrays.asList("versao" + versoes), tradutor.traduzPalavra("palavra" + i));
+            Assert.assertEquals(Arrays.asList("versao" + versoes), tradutor.traduzPalavra("PALAVRA" + i));
+        }
+    }
+
     // ====================================================================================================
     // Validações do método Tradutor.lerLinhaDoArquivo
     // ====================================================================================================
@@ -112,6 +531,232 @@ public class TradutorTest {
         Assert.assertEquals(Arrays.asList("sou"), tradutorCarregado.traduzPalavra("am"));
     }
 
+    /**
+     * Valida que o salvamento escreve em UTF-8, substitui o arquivo anterior por completo, não deixa arquivos temporários
+     * e, em caso de falha, preserva o destino.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar a pasta temporária.
+     */
+    @Test
+    public void salvaDicionario_utf8_substituicaoTest() throws IOException {
+        Tradutor tradutor = new Tradutor();
+        File pasta = Files.createTempDirectory("dicionario").toFile(), arquivo = new File(pasta, "dicionario.dat"), destinoInvalido = new File(pasta, "pasta");
+
+        try {
+            List<String> muitasTraducoes = new ArrayList<>();
+
+            for (int i = 1; i <= 40; i++) {
+                muitasTraducoes.add("tradução " + i);
+            }
+
+            tradutor.insereTraducao("café", new ArrayList<>(Arrays.asList("café", "cafeteria")));
+            tradutor.insereTraducao("many", new ArrayList<>(muitasTraducoes));
+
+            Files.write(arquivo.toPath(), Collections.nCopies(1_000, "<palavra_ingles>antiga<traducao1>antiga"), StandardCharsets.UTF_8);
+
+            tradutor.salvaDicionario(arquivo.getAbsolutePath());
+
+            List<String> linhas = Files.readAllLines(arquivo.toPath(), StandardCharsets.UTF_8);
+            StringBuilder esperada = new StringBuilder("<palavra_ingles>many");
+
+            for (int i = 1; i <= 40; i++) {
+                esperada.append("<traducao").append(i).append(">tradução ").append(i);
+            }
+
+            Assert.assertEquals(Arrays.asList(esperada.toString(), "<palavra_ingles>café<traducao1>café<traducao2>cafeteria"), linhas);
+            Assert.assertArrayEquals(new String[] { "dicionario.dat" }, pasta.list());
+
+            Tradutor tradutorCarregado = new Tradutor(arquivo.getAbsolutePath());
+
+            Assert.assertEquals(muitasTraducoes, tradutorCarregado.traduzPalavra("many"));
+            Assert.assertEquals(Arrays.asList("café", "cafeteria"), tradutorCarregado.traduzPalavra("CAFE"));
+
+            // Uma pasta com conteúdo não pode ser substituída: o salvamento falha sem alterá-la nem deixar o temporário.
+            Assert.assertTrue(new File(destinoInvalido, "conteudo").mkdirs());
+
+            try {
+                tradutor.salvaDicionario(destinoInvalido.getAbsolutePath());
+                Assert.fail("A pasta com conteúdo não deve ser substituída");
+            } catch (RuntimeException e) {
+                // Esperado.
+            }
+
+            Assert.assertTrue(new File(destinoInvalido, "conteudo").isDirectory());
+            Assert.assertEquals(2, pasta.list().length);
+
+            // Uma falha durante o percurso da árvore também não deixa o temporário.
+            Tradutor tradutorComFalha = new Tradutor();
+
+            tradutorComFalha.arvore = new ArvoreAvl() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Iterator<Dicionario> iterator() {
+                    throw new IllegalStateException("Falha no percurso");
+                }
+
+            };
+
+            try {
+                tradutorComFalha.salvaDicionario(arquivo.getAbsolutePath());
+                Assert.fail("A falha no percurso deve ser propagada");
+            } catch (IllegalStateException e) {
+                // Esperado.
+            }
+
+            Assert.assertEquals(2, pasta.list().length);
+            Assert.assertEquals(muitasTraducoes, new Tradutor(arquivo.getAbsolutePath()).traduzPalavra("many"));
+        } finally {
+            new File(destinoInvalido, "conteudo").delete();
+            destinoInvalido.delete();
+            arquivo.delete();
+            pasta.delete();
+        }
+    }
+
+    /**
+     * Valida o salvamento e o carregamento do dicionário no formato binário, assim como as conversões entre os formatos.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar os arquivos temporários.
+     */
+    @Test
+    public void salva_carregaDicionarioBinarioTest() throws IOException {
+        Tradutor tradutor = new Tradutor(), tradutorCarregado = new Tradutor();
+        File binario = Files.createTempFile("dicionario", ".bin").toFile(), texto = Files.createTempFile("dicionario-convertido", ".dat").toFile(),
+                binarioConvertido = Files.createTempFile("dicionario-convertido", ".bin").toFile();
+
+        try {
+            tradutor.insereTraducao("be", new ArrayList<>(Arrays.asList("ser", "estar", "haver", "ficar", "existir")));
+            tradutor.insereTraducao("i", new ArrayList<>(Arrays.asList("eu")));
+            tradutor.insereTraducao("am", new ArrayList<>(Arrays.asList("sou")));
+            tradutor.insereTraducao("café", new ArrayList<>(Arrays.asList("café")));
+
+            tradutor.salvaDicionarioBinario(binario.getAbsolutePath());
+            tradutorCarregado.carregaDicionarioBinario(binario.getAbsolutePath());
+
+            Assert.assertEquals(Arrays.asList("ser", "estar", "haver", "ficar", "existir"), tradutorCarregado.traduzPalavra("be"));
+            Assert.assertEquals(Arrays.asList("eu"), tradutorCarregado.traduzPalavra("i"));
+            Assert.assertEquals(Arrays.asList("sou"), tradutorCarregado.traduzPalavra("am"));
+            Assert.assertEquals(Arrays.asList("café"), tradutorCarregado.traduzPalavra("cafe"));
+            Assert.assertEquals(4, tradutorCarregado.getConteudo().size());
+            Assert.assertEquals(4, tradutorCarregado.getQuantidade());
+
+            // As definições lidas continuam sendo unificadas ao inserir variações das existentes.
+            tradutorCarregado.insereTraducao("BE", new ArrayList<>(Arrays.asList("SER", "estar ", "viver")));
+
+            Assert.assertEquals(Arrays.asList("ser", "estar", "haver", "ficar", "existir", "viver"), tradutorCarregado.traduzPalavra("be"));
+
+            DicionarioBinario.converterParaTexto(binario.getAbsolutePath(), texto.getAbsolutePath());
+            DicionarioBinario.converterParaBinario(texto.getAbsolutePath(), binarioConvertido.getAbsolutePath());
+
+            tradutorCarregado = new Tradutor();
+            tradutorCarregado.carregaDicionarioBinario(binarioConvertido.getAbsolutePath());
+
+            Assert.assertEquals(Arrays.asList("ser", "estar", "haver", "ficar", "existir"), tradutorCarregado.traduzPalavra("BE"));
+            Assert.assertEquals(4, tradutorCarregado.getConteudo().size());
+        } finally {
+            binario.delete();
+            texto.delete();
+            binarioConvertido.delete();
+        }
+    }
+
+    /**
+     * Valida que um dicionário binário truncado, corrompido ou fora de ordem é rejeitado com uma {@link IOException},
+     * nunca com outra exceção.
+     * 
+     * @throws IOException
+     *             Caso não seja possível criar o arquivo temporário.
+     */
+    @Test
+    public void carregaDicionarioBinario_arquivoCorrompidoTest() throws IOException {
+        Tradutor tradutor = new Tradutor();
+        File binario = Files.createTempFile("dicionario", ".bin").toFile();
+
+        try {
+            for (int i = 0; i < 50; i++) {
+                tradutor.insereTraducao("palavra" + i, new ArrayList<>(Arrays.asList("tradução " + i, "outra " + i)));
+            }
+
+            tradutor.salvaDicionarioBinario(binario.getAbsolutePath());
+
+            final byte[] original = Files.readAllBytes(binario.toPath());
+            Random random = new Random(42);
+
+            for (int tamanho = original.length - 1; tamanho > 0; tamanho -= 7) {
+                Files.write(binario.toPath(), Arrays.copyOf(original, tamanho));
+
+                try {
+                    DicionarioBinario.ler(binario);
+                    Assert.fail("O arquivo truncado em " + tamanho + " bytes deve ser rejeitado");
+                } catch (IOException e) {
+                    // Esperado.
+                }
+            }
+
+            for (int i = 0; i < 2_000; i++) {
+                byte[] corrompido = original.clone();
+
+                corrompido[DicionarioBinario.TAMANHO_CABECALHO + random.nextInt(corrompido.length - DicionarioBinario.TAMANHO_CABECALHO)] = (byte) random.nextInt();
+                Files.write(binario.toPath(), corrompido);
+
+                try {
+                    DicionarioBinario.ler(binario);
+                } catch (IOException e) {
+                    // Esperado, a não ser que somente o texto de uma palavra ou definição tenha sido alterado.
+                }
+            }
+
+            // Inverte a ordem de dois dicionários com palavras e definições do mesmo tamanho.
+            List<Dicionario> dicionarios = tradutor.getConteudo();
+            List<Dicionario> foraDeOrdem = new ArrayList<>(dicionarios);
+
+            Collections.swap(foraDeOrdem, 0, 1);
+            DicionarioBinario.escrever(foraDeOrdem, binario);
+
+            try {
+                DicionarioBinario.ler(binario);
+                Assert.fail("Os dicionários fora de ordem devem ser rejeitados");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("corrompido"));
+            }
+        } finally {
+            binario.delete();
+        }
+    }
+
+    /**
+     * Valida o carregamento linha a linha e o número das linhas inválidas informadas.
+     * 
+     * @throws IOException
+     *             Caso ocorra um erro de leitura.
+     */
+    @Test
+    public void carregaDicionario_linhasInvalidasTest() throws IOException {
+        Tradutor tradutor = new Tradutor();
+        String conteudo = LINHA + "\nlinha invalida\n<palavra_ingles>i<traducao1>eu\n\n";
+        ByteArrayOutputStream erros = new ByteArrayOutputStream();
+        PrintStream erroPadrao = System.err;
+        long linhas;
+
+        System.setErr(new PrintStream(erros, true, "UTF-8"));
+
+        try {
+            linhas = tradutor.carregaDicionario(new BufferedReader(new StringReader(conteudo)));
+        } finally {
+            System.setErr(erroPadrao);
+        }
+
+        Assert.assertEquals(4, linhas);
+        Assert.assertEquals(DEFINICOES, tradutor.traduzPalavra(PALAVRA_INGLES));
+        Assert.assertEquals(Arrays.asList("eu"), tradutor.traduzPalavra("i"));
+        Assert.assertTrue(erros.toString("UTF-8").contains("linha 2"));
+        Assert.assertTrue(erros.toString("UTF-8").contains("linha 4"));
+    }
+
     // ====================================================================================================
     // Validações do método Tradutor.Utils.getValorEntre
     // ====================================================================================================